@@ -0,0 +1,78 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.bench;
+
+import java.io.IOException;
+
+import glum.zio.*;
+
+/**
+ * Small {@link ZioObj} used as a representative payload by the zio benchmarks.
+ *
+ * @author lopeznr1
+ */
+public class BenchObj implements ZioObj
+{
+	// Attributes
+	private int id;
+	private long time;
+	private double value;
+	private String name;
+
+	/** Standard Constructor */
+	public BenchObj(int aId)
+	{
+		id = aId;
+		time = 1_600_000_000_000L + aId;
+		value = aId * 0.5;
+		name = "Item-" + (aId % 100);
+	}
+
+	/** Simplified Constructor (used by deserialization) */
+	public BenchObj()
+	{
+		this(0);
+	}
+
+	/**
+	 * Returns the id of this object.
+	 */
+	public int getId()
+	{
+		return id;
+	}
+
+	@Override
+	public void zioRead(ZinStream aStream) throws IOException
+	{
+		aStream.readVersion(0);
+
+		id = aStream.readInt();
+		time = aStream.readLong();
+		value = aStream.readDouble();
+		name = aStream.readString();
+	}
+
+	@Override
+	public void zioWrite(ZoutStream aStream) throws IOException
+	{
+		aStream.writeVersion(0);
+
+		aStream.writeInt(id);
+		aStream.writeLong(time);
+		aStream.writeDouble(value);
+		aStream.writeString(name);
+	}
+
+}
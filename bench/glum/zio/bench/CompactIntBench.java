@@ -0,0 +1,112 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.bench;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import glum.zio.stream.*;
+import glum.zio.util.ZioUtil;
+
+/**
+ * JMH benchmarks that compare the cost of reading compact ints ({@link ZioUtil#readCompactInt}) against variable
+ * length ints and (fixed size) ints.
+ *
+ * @author lopeznr1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompactIntBench
+{
+	// Constants
+	private static final int NumValues = 100_000;
+
+	/** The max value of the (random) ints. Small values favor the compact encodings. */
+	@Param({ "200", "60000", "2000000000" })
+	public int maxValue;
+
+	// State vars
+	private byte[] compactArr;
+	private byte[] varIntArr;
+	private byte[] intArr;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		var compactStream = new ByteArrayZoutStream(1024 * 1024);
+		var varIntStream = new ByteArrayZoutStream(1024 * 1024);
+		var intStream = new ByteArrayZoutStream(1024 * 1024);
+
+		var tmpRandom = new Random(0);
+		for (int c1 = 0; c1 < NumValues; c1++)
+		{
+			var tmpVal = tmpRandom.nextInt(maxValue);
+			ZioUtil.writeCompactInt(compactStream, tmpVal);
+			varIntStream.writeVarInt(tmpVal);
+			intStream.writeInt(tmpVal);
+		}
+
+		compactStream.close();
+		varIntStream.close();
+		intStream.close();
+
+		compactArr = compactStream.toByteArray();
+		varIntArr = varIntStream.toByteArray();
+		intArr = intStream.toByteArray();
+	}
+
+	@Benchmark
+	public long readCompactInt() throws IOException
+	{
+		var tmpStream = new ByteArrayZinStream(compactArr);
+		long retVal = 0;
+		for (int c1 = 0; c1 < NumValues; c1++)
+			retVal += ZioUtil.readCompactInt(tmpStream);
+		tmpStream.close();
+
+		return retVal;
+	}
+
+	@Benchmark
+	public long readInt() throws IOException
+	{
+		var tmpStream = new ByteArrayZinStream(intArr);
+		long retVal = 0;
+		for (int c1 = 0; c1 < NumValues; c1++)
+			retVal += tmpStream.readInt();
+		tmpStream.close();
+
+		return retVal;
+	}
+
+	@Benchmark
+	public long readVarInt() throws IOException
+	{
+		var tmpStream = new ByteArrayZinStream(varIntArr);
+		long retVal = 0;
+		for (int c1 = 0; c1 < NumValues; c1++)
+			retVal += tmpStream.readVarInt();
+		tmpStream.close();
+
+		return retVal;
+	}
+
+}
@@ -0,0 +1,68 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import glum.zio.ZioObjUtil;
+import glum.zio.stream.*;
+
+/**
+ * JMH benchmarks that measure the cost of deserializing lists of small objects via {@link ZioObjUtil#readList}.
+ *
+ * @author lopeznr1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjListBench
+{
+	@Param({ "1000", "1000000" })
+	public int numItems;
+
+	// State vars
+	private byte[] dataArr;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		List<BenchObj> itemL = new ArrayList<>(numItems);
+		for (int c1 = 0; c1 < numItems; c1++)
+			itemL.add(new BenchObj(c1));
+
+		var tmpStream = new ByteArrayZoutStream(1024 * 1024);
+		ZioObjUtil.writeList(tmpStream, itemL);
+		tmpStream.close();
+		dataArr = tmpStream.toByteArray();
+	}
+
+	@Benchmark
+	public List<BenchObj> readList() throws IOException
+	{
+		var tmpStream = new ByteArrayZinStream(dataArr);
+		var retItemL = ZioObjUtil.readList(tmpStream, BenchObj.class);
+		tmpStream.close();
+
+		return retItemL;
+	}
+
+}
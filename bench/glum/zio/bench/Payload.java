@@ -0,0 +1,147 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import glum.zio.*;
+
+/**
+ * Enum that defines the representative payloads utilized by the zio benchmarks.
+ * <p>
+ * Each payload is roughly 4 MB when serialized.
+ *
+ * @author lopeznr1
+ */
+public enum Payload
+{
+	/** Many small objects. See {@link BenchObj}. */
+	SmallObj
+	{
+		@Override
+		public long read(ZinStream aStream) throws IOException
+		{
+			var itemL = ZioObjUtil.readList(aStream, BenchObj.class);
+			return itemL.size();
+		}
+
+		@Override
+		public void write(ZoutStream aStream) throws IOException
+		{
+			ZioObjUtil.writeList(aStream, ObjList);
+		}
+	},
+
+	/** A handful of long (512 KB) strings. */
+	LongString
+	{
+		@Override
+		public long read(ZinStream aStream) throws IOException
+		{
+			long retVal = 0;
+			for (int c1 = 0; c1 < 8; c1++)
+				retVal += aStream.readChars().length();
+
+			return retVal;
+		}
+
+		@Override
+		public void write(ZoutStream aStream) throws IOException
+		{
+			for (int c1 = 0; c1 < 8; c1++)
+				aStream.writeChars(LongStr);
+		}
+	},
+
+	/** Large numeric (double) arrays. */
+	NumArray
+	{
+		@Override
+		public long read(ZinStream aStream) throws IOException
+		{
+			var tmpArr = new double[DoubleArr.length];
+			for (int c1 = 0; c1 < 8; c1++)
+				aStream.readDoubles(tmpArr, 0, tmpArr.length);
+
+			return (long) tmpArr[tmpArr.length - 1];
+		}
+
+		@Override
+		public void write(ZoutStream aStream) throws IOException
+		{
+			for (int c1 = 0; c1 < 8; c1++)
+				aStream.writeDoubles(DoubleArr, 0, DoubleArr.length);
+		}
+	};
+
+	// Constants
+	private static final List<BenchObj> ObjList = formObjList(100_000);
+	private static final String LongStr = formLongString(512 * 1024);
+	private static final double[] DoubleArr = formDoubleArr(64 * 1024);
+
+	/**
+	 * Reads the payload from the specified stream. Returns a value derived from the content read (to be consumed by the
+	 * benchmark).
+	 */
+	public abstract long read(ZinStream aStream) throws IOException;
+
+	/**
+	 * Writes the payload to the specified stream.
+	 */
+	public abstract void write(ZoutStream aStream) throws IOException;
+
+	/**
+	 * Helper method to form a list of small objects.
+	 */
+	private static List<BenchObj> formObjList(int aNumItems)
+	{
+		var retItemL = new ArrayList<BenchObj>(aNumItems);
+		for (int c1 = 0; c1 < aNumItems; c1++)
+			retItemL.add(new BenchObj(c1));
+
+		return retItemL;
+	}
+
+	/**
+	 * Helper method to form a (mostly ASCII) string with the specified number of chars.
+	 */
+	private static String formLongString(int aNumChars)
+	{
+		var tmpSB = new StringBuilder(aNumChars);
+		for (int c1 = 0; c1 < aNumChars; c1++)
+		{
+			if (c1 % 64 == 63)
+				tmpSB.append('\u00e9');
+			else
+				tmpSB.append((char) ('a' + c1 % 26));
+		}
+
+		return tmpSB.toString();
+	}
+
+	/**
+	 * Helper method to form an array of doubles with the specified number of values.
+	 */
+	private static double[] formDoubleArr(int aNumValues)
+	{
+		var retArr = new double[aNumValues];
+		for (int c1 = 0; c1 < aNumValues; c1++)
+			retArr[c1] = c1 * 1.25;
+
+		return retArr;
+	}
+
+}
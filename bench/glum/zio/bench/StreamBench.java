@@ -0,0 +1,128 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import glum.digest.DigestType;
+import glum.zio.stream.*;
+
+/**
+ * JMH benchmarks that measure the throughput of reading and writing the various {@link Payload}s via the file and
+ * byte array backed zio streams - with and without a checksum.
+ * <p>
+ * The work buffer of the file streams may be configured via the parameters bufferSize and bufferType. Example:
+ * -p bufferSize=4096,65536,524288 -p bufferType=Heap,Direct
+ *
+ * @author lopeznr1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamBench
+{
+	@Param({ "SmallObj", "LongString", "NumArray" })
+	public Payload payload;
+
+	@Param({ "None", "MD5", "CRC32C" })
+	public String digest;
+
+	/** The size of the file stream work buffers. A value of 0 implies the default size. */
+	@Param({ "0" })
+	public int bufferSize;
+
+	/** The type of the file stream work buffers. */
+	@Param({ "Auto" })
+	public ZioStreamOptions.BufferType bufferType;
+
+	// State vars
+	private DigestType digestType;
+	private ZioStreamOptions options;
+	private byte[] dataArr;
+	private File readFile;
+	private File writeFile;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		digestType = null;
+		if (digest.equals("None") == false)
+			digestType = DigestType.valueOf(digest);
+		options = ZioStreamOptions.Default.withDigestType(digestType).withBuffer(bufferType, bufferSize);
+
+		// Serialize the payload (once) for the read benchmarks
+		var tmpStream = new ByteArrayZoutStream(1024 * 1024);
+		payload.write(tmpStream);
+		tmpStream.close();
+		dataArr = tmpStream.toByteArray();
+
+		readFile = File.createTempFile("zioBenchRead", ".bin");
+		var tmpFileStream = new FileZoutStream(readFile, (DigestType) null, false);
+		payload.write(tmpFileStream);
+		tmpFileStream.close();
+
+		writeFile = File.createTempFile("zioBenchWrite", ".bin");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		readFile.delete();
+		writeFile.delete();
+	}
+
+	@Benchmark
+	public long readByteArray() throws IOException
+	{
+		var tmpStream = new ByteArrayZinStream(dataArr, digestType);
+		var retVal = payload.read(tmpStream);
+		tmpStream.close();
+		return retVal;
+	}
+
+	@Benchmark
+	public long readFile() throws IOException
+	{
+		var tmpStream = new FileZinStream(readFile, options);
+		var retVal = payload.read(tmpStream);
+		tmpStream.close();
+		return retVal;
+	}
+
+	@Benchmark
+	public byte[] writeByteArray() throws IOException
+	{
+		var tmpStream = new ByteArrayZoutStream(64 * 1024, digestType);
+		payload.write(tmpStream);
+		tmpStream.close();
+		return tmpStream.toByteArray();
+	}
+
+	@Benchmark
+	public long writeFile() throws IOException
+	{
+		var tmpStream = new FileZoutStream(writeFile, options);
+		payload.write(tmpStream);
+		tmpStream.close();
+		return writeFile.length();
+	}
+
+}
@@ -0,0 +1,88 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.digest;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.zip.Checksum;
+
+/**
+ * Package private {@link MessageDigest} that is backed by a (non-cryptographic) 32 bit {@link Checksum}.
+ * <p>
+ * This allows fast checksums (ex: CRC32C) to be utilized wherever a {@link MessageDigest} is expected. The digest
+ * value is the 32 bit checksum stored as 4 bytes (big endian).
+ *
+ * @author lopeznr1
+ */
+class ChecksumMessageDigest extends MessageDigest
+{
+	// Attributes
+	private final Checksum refChecksum;
+
+	/** Standard Constructor */
+	ChecksumMessageDigest(String aAlgName, Checksum aChecksum)
+	{
+		super(aAlgName);
+
+		refChecksum = aChecksum;
+	}
+
+	@Override
+	protected int engineGetDigestLength()
+	{
+		return 4;
+	}
+
+	@Override
+	protected void engineUpdate(byte aByte)
+	{
+		refChecksum.update(aByte);
+	}
+
+	@Override
+	protected void engineUpdate(byte[] aByteArr, int aOffset, int aLength)
+	{
+		refChecksum.update(aByteArr, aOffset, aLength);
+	}
+
+	@Override
+	protected void engineUpdate(ByteBuffer aBuffer)
+	{
+		refChecksum.update(aBuffer);
+	}
+
+	@Override
+	protected byte[] engineDigest()
+	{
+		var retArr = peekValue();
+		refChecksum.reset();
+		return retArr;
+	}
+
+	@Override
+	protected void engineReset()
+	{
+		refChecksum.reset();
+	}
+
+	/**
+	 * Returns the current checksum value without resetting this digest.
+	 */
+	byte[] peekValue()
+	{
+		var tmpVal = (int) refChecksum.getValue();
+		return ByteBuffer.allocate(4).putInt(tmpVal).array();
+	}
+
+}
@@ -0,0 +1,72 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.digest;
+
+/**
+ * Immutable object that stores the {@link Digest} of a single segment (contiguous region) of a stream.
+ *
+ * @author lopeznr1
+ */
+public class DigestSegment
+{
+	private final long begPos;
+	private final long numBytes;
+	private final Digest digest;
+
+	public DigestSegment(long aBegPos, long aNumBytes, Digest aDigest)
+	{
+		begPos = aBegPos;
+		numBytes = aNumBytes;
+		digest = aDigest;
+	}
+
+	/**
+	 * Returns the (stream) position of the first byte of this segment.
+	 */
+	public long getBegPos()
+	{
+		return begPos;
+	}
+
+	/**
+	 * Returns the (stream) position just past the last byte of this segment.
+	 */
+	public long getEndPos()
+	{
+		return begPos + numBytes;
+	}
+
+	/**
+	 * Returns the number of bytes in this segment.
+	 */
+	public long getNumBytes()
+	{
+		return numBytes;
+	}
+
+	/**
+	 * Returns the {@link Digest} of the content of this segment.
+	 */
+	public Digest getDigest()
+	{
+		return digest;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[" + begPos + ", " + getEndPos() + ") " + digest.getDescr();
+	}
+
+}
@@ -27,7 +27,10 @@ public enum DigestType
 	SHA256("SHA-256"),
 
 	// Very strong digest type
-	SHA512("SHA-512");
+	SHA512("SHA-512"),
+
+	// Non-cryptographic checksum - extremely fast (hardware accelerated). Only suitable for detecting corruption.
+	CRC32C("CRC32C");
 
 	// State vars
 	private String algName;
@@ -52,6 +55,8 @@ public enum DigestType
 	 */
 	public static DigestType parse(String aStr)
 	{
+		if (aStr.equalsIgnoreCase("CRC32C") == true)
+			return CRC32C;
 		if (aStr.equalsIgnoreCase("MD5") == true)
 			return MD5;
 		if (aStr.equalsIgnoreCase("SHA256") == true)
@@ -15,6 +15,7 @@ package glum.digest;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32C;
 
 import com.google.common.io.BaseEncoding;
 
@@ -28,7 +29,7 @@ public class DigestUtils
 	/**
 	 * Utility method that will throw a RuntimeExcepption if the specified digest function is not found.
 	 * <p>
-	 * Algorithm should be MD5, SHA-256, SHA-512, ...
+	 * Algorithm should be CRC32C, MD5, SHA-256, SHA-512, ...
 	 * <p>
 	 * See: http://docs.oracle.com/javase/1.8.0/docs/guide/security/CryptoSpec.html#AppA
 	 */
@@ -36,6 +37,10 @@ public class DigestUtils
 	{
 		MessageDigest retDigest;
 
+		// Non-cryptographic checksums are not provided by the security providers
+		if (aAlgorithm.equals(DigestType.CRC32C.getAlgName()) == true)
+			return new ChecksumMessageDigest(aAlgorithm, new CRC32C());
+
 		try
 		{
 			retDigest = MessageDigest.getInstance(aAlgorithm);
@@ -58,6 +63,29 @@ public class DigestUtils
 		return getDigest(aDigestType.getAlgName());
 	}
 
+	/**
+	 * Utility method that returns the digest value of the data fed to aDigest thus far. Unlike
+	 * {@link MessageDigest#digest()} the state of aDigest is not reset - more data may be fed to aDigest afterwards.
+	 * <p>
+	 * A RuntimeException will be thrown if the digest does not support cloning.
+	 */
+	public static byte[] peekDigest(MessageDigest aDigest)
+	{
+		// Checksum based digests can be evaluated without affecting their state
+		if (aDigest instanceof ChecksumMessageDigest aChecksumDigest)
+			return aChecksumDigest.peekValue();
+
+		try
+		{
+			var tmpDigest = (MessageDigest) aDigest.clone();
+			return tmpDigest.digest();
+		}
+		catch (CloneNotSupportedException aExp)
+		{
+			throw new RuntimeException("Digest does not support cloning: " + aDigest.getAlgorithm(), aExp);
+		}
+	}
+
 	/**
 	 * Utility method that returns the (lower case) hex string corresponding to the byte array.
 	 * <p>
@@ -14,6 +14,7 @@
 package glum.gui;
 
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 import javax.swing.JTable;
 import javax.swing.event.*;
@@ -101,22 +102,38 @@ public class TableUtil
 	public static <G1> void updateTableSelection(ListSelectionListener aIgnoreListener, ItemManager<G1> aManager,
 			JTable aTable, TableSorter aSortTableModel)
 	{
-		// Form a reverse lookup map of item to (view) index
+		// Form a reverse lookup map of item to (model) index
 		List<G1> fullItemL = aManager.getAllItems();
 		Map<G1, Integer> revLookM = new HashMap<>();
 		for (int aIdx = 0; aIdx < fullItemL.size(); aIdx++)
-		{
-			int tmpIdx = aSortTableModel.viewIndex(aIdx);
-			revLookM.put(fullItemL.get(aIdx), tmpIdx);
-		}
+			revLookM.put(fullItemL.get(aIdx), aIdx);
+
+		// Delegate
+		updateTableSelection(aIgnoreListener, aManager, aTable, aSortTableModel,
+				aItem -> revLookM.getOrDefault(aItem, -1));
+	}
 
+	/**
+	 * Utility method that will synchronize the table selection to match the selected items in the ItemManager.
+	 * <p>
+	 * The (model) row index of each item is determined via the provided function which should return -1 for items that
+	 * are not in the table. Unlike {@link #updateTableSelection(ListSelectionListener, ItemManager, JTable, TableSorter)}
+	 * no reverse lookup of all items needs to be formed.
+	 */
+	public static <G1> void updateTableSelection(ListSelectionListener aIgnoreListener, ItemManager<G1> aManager,
+			JTable aTable, TableSorter aSortTableModel, ToIntFunction<G1> aRowIndexFunc)
+	{
 		int[] idxArr = aTable.getSelectedRows();
 		List<Integer> oldL = Ints.asList(idxArr);
 		Set<Integer> oldS = new LinkedHashSet<>(oldL);
 
 		List<Integer> newL = new ArrayList<>();
 		for (G1 aItem : aManager.getSelectedItems())
-			newL.add(revLookM.get(aItem));
+		{
+			int tmpIdx = aRowIndexFunc.applyAsInt(aItem);
+			if (tmpIdx != -1)
+				newL.add(aSortTableModel.viewIndex(tmpIdx));
+		}
 		Set<Integer> newS = new LinkedHashSet<>(newL);
 
 		// Bail if nothing has changed
@@ -57,6 +57,8 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 
 	// State vars
 	private List<ListSelectionListener> listenerL;
+	private List<ItemChangeSet<G1>> pendingChangeL;
+	private int pendingChangeCnt;
 	private boolean updateNeeded;
 
 	/** Standard Constructor */
@@ -73,6 +75,8 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 		refItemProcessor = aItemProcessor;
 
 		listenerL = new ArrayList<>();
+		pendingChangeL = new ArrayList<>();
+		pendingChangeCnt = 0;
 		updateNeeded = true;
 
 		// Form the gui
@@ -306,6 +310,26 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 		repaint();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void handleItemChange(Object aSource, ItemChangeSet<?> aChangeSet)
+	{
+		// Queue the change set (unless the table is already scheduled to be fully rebuilt). Note a full rebuild will be
+		// scheduled instead if the number of queued changes becomes large relative to the number of items.
+		if (updateNeeded == false)
+		{
+			pendingChangeL.add((ItemChangeSet<G1>) aChangeSet);
+			pendingChangeCnt += aChangeSet.getAddedItems().size() + aChangeSet.getRemovedItems().size()
+					+ aChangeSet.getUpdatedItems().size();
+
+			if (pendingChangeCnt > refItemProcessor.getNumItems() / 2)
+				updateNeeded = true;
+		}
+
+		// See handleItemEvent() for why a lazy update is used
+		repaint();
+	}
+
 	/**
 	 * This may be triggered indirectly via a network call after the method repaint() has been called. Do not call this
 	 * method from a non gui thread
@@ -440,13 +464,7 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 			return;
 
 		// Get the old selected items
-		var selectedL = new ArrayList<G1>();
-		int[] idxArr = myTable.getSelectedRows();
-		for (int aInt : idxArr)
-		{
-			int tmpIdx = sortTableModel.modelIndex(aInt);
-			selectedL.add(viewTableModel.getRowItem(tmpIdx));
-		}
+		var selectedL = getSelectedRowItems();
 
 		// Suspend listening to selection change events
 		myTable.getSelectionModel().removeListSelectionListener(this);
@@ -456,20 +474,42 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 		viewTableModel.clear();
 		viewTableModel.addItems(itemL);
 
-		// Determine the row indexes to be selected
-		var tmpRowL = new ArrayList<Integer>();
-		for (G1 aObj : selectedL)
-		{
-			int tmpRow = viewTableModel.getRowIndex(aObj);
-			if (tmpRow == -1)
-				continue;
+		// Select the appropriate rows
+		restoreSelection(selectedL);
 
-			tmpRow = sortTableModel.viewIndex(tmpRow);
-			tmpRowL.add(tmpRow);
+		// Restore listening to selection change events
+		myTable.getSelectionModel().addListSelectionListener(this);
+	}
+
+	/**
+	 * Helper method that applies the queued change sets to the table model. Only the affected rows will be updated;
+	 * the sort order, selection, and scroll position will be retained.
+	 */
+	protected synchronized void applyPendingChanges()
+	{
+		// Take ownership of the queued change sets
+		var changeL = new ArrayList<>(pendingChangeL);
+		pendingChangeL.clear();
+		pendingChangeCnt = 0;
+
+		// Get the old selected items
+		var selectedL = getSelectedRowItems();
+
+		// Suspend listening to selection change events
+		myTable.getSelectionModel().removeListSelectionListener(this);
+
+		// Apply the change sets
+		for (ItemChangeSet<G1> aChangeSet : changeL)
+		{
+			viewTableModel.removeItems(aChangeSet.getRemovedItems());
+			viewTableModel.addItems(aChangeSet.getAddedItems());
+			viewTableModel.updateItems(aChangeSet.getUpdatedItems());
 		}
 
-		// Select the appropriate rows
-		TableUtil.setSelection(myTable, null, tmpRowL);
+		// Reselect the old selected items. Note the selection is always restored as rows that were removed or relocated
+		// (due to sorting) may have affected the table's selection.
+		selectedL.removeIf(aItem -> viewTableModel.getRowIndex(aItem) == -1);
+		restoreSelection(selectedL);
 
 		// Restore listening to selection change events
 		myTable.getSelectionModel().addListSelectionListener(this);
@@ -617,9 +657,13 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 	 */
 	protected synchronized void updateTable()
 	{
-		// Bail if an update is no longer needed.
+		// Apply any queued change sets if a full update is not needed
 		if (updateNeeded == false)
+		{
+			if (pendingChangeL.isEmpty() == false)
+				applyPendingChanges();
 			return;
+		}
 //System.out.println("ItemListPanel.updateTable() Addr:" + this.hashCode());
 
 //		// Ensure we are executed only on the proper thread
@@ -631,9 +675,48 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 		rebuildSearchBox();
 
 		// Mark any future (already scheduled) requests as filled.
+		pendingChangeL.clear();
+		pendingChangeCnt = 0;
 		updateNeeded = false;
 	}
 
+	/**
+	 * Helper method that returns the items corresponding to the selected rows.
+	 */
+	private List<G1> getSelectedRowItems()
+	{
+		var retItemL = new ArrayList<G1>();
+		int[] idxArr = myTable.getSelectedRows();
+		for (int aInt : idxArr)
+		{
+			int tmpIdx = sortTableModel.modelIndex(aInt);
+			retItemL.add(viewTableModel.getRowItem(tmpIdx));
+		}
+
+		return retItemL;
+	}
+
+	/**
+	 * Helper method that selects the rows corresponding to the specified items.
+	 */
+	private void restoreSelection(List<G1> aItemL)
+	{
+		// Determine the row indexes to be selected
+		var tmpRowL = new ArrayList<Integer>();
+		for (G1 aObj : aItemL)
+		{
+			int tmpRow = viewTableModel.getRowIndex(aObj);
+			if (tmpRow == -1)
+				continue;
+
+			tmpRow = sortTableModel.viewIndex(tmpRow);
+			tmpRowL.add(tmpRow);
+		}
+
+		// Select the appropriate rows
+		TableUtil.setSelection(myTable, null, tmpRowL);
+	}
+
 	/**
 	 * Helper method to update the table selection to match the state of the ItemManager.
 	 * <p>
@@ -645,7 +728,8 @@ public class ItemListPanel<G1, G2 extends Enum<?>> extends JPanel
 		updateTable();
 
 		if (refItemProcessor instanceof ItemManager)
-			TableUtil.updateTableSelection(this, (ItemManager<?>) refItemProcessor, myTable, sortTableModel);
+			TableUtil.updateTableSelection(this, (ItemManager<G1>) refItemProcessor, myTable, sortTableModel,
+					viewTableModel::getRowIndex);
 	}
 
 }
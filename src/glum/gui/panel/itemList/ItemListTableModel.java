@@ -13,14 +13,17 @@
 // limitations under the License.
 package glum.gui.panel.itemList;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.*;
 
 import javax.swing.JTable;
 import javax.swing.table.AbstractTableModel;
 
 /**
  * TableModel that provides access to a collection of items handled by the provided {@link ItemHandler}.
+ * <p>
+ * A reverse lookup of item to row index is maintained so that {@link #getRowIndex(Object)} is a constant time
+ * operation. Items may be matched via equals or identity semantics (as configured at construction). Items are expected
+ * to be unique - a duplicate item will be mapped to the row of its last occurrence.
  *
  * @param <G1>
  * @param <G2>
@@ -35,19 +38,39 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 	// State vars
 	private final TableColumnHandler<G2> workTableColumnHandler;
 	private final ArrayList<G1> myItemL;
+	private final Map<G1, Integer> rowIndexM;
+	private int rowIndexValidCnt;
+	private int holeIdx;
+	private int holeLen;
 
 	/**
 	 * Standard Constructor
 	 *
 	 * @param aItemHandler
 	 * @param aTableColumnHandler
+	 * @param aIsIdentityLookup
+	 *        If true then items will be located via identity (==) rather than via equals.
 	 */
-	public ItemListTableModel(ItemHandler<G1, G2> aItemHandler, TableColumnHandler<G2> aTableColumnHandler)
+	public ItemListTableModel(ItemHandler<G1, G2> aItemHandler, TableColumnHandler<G2> aTableColumnHandler,
+			boolean aIsIdentityLookup)
 	{
 		refItemHandler = aItemHandler;
 		workTableColumnHandler = aTableColumnHandler;
 
 		myItemL = new ArrayList<>();
+		if (aIsIdentityLookup == true)
+			rowIndexM = new IdentityHashMap<>();
+		else
+			rowIndexM = new HashMap<>();
+		rowIndexValidCnt = 0;
+		holeIdx = 0;
+		holeLen = 0;
+	}
+
+	/** Simplified Constructor */
+	public ItemListTableModel(ItemHandler<G1, G2> aItemHandler, TableColumnHandler<G2> aTableColumnHandler)
+	{
+		this(aItemHandler, aTableColumnHandler, false);
 	}
 
 	@Override
@@ -59,7 +82,7 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 	@Override
 	public int getRowCount()
 	{
-		return myItemL.size();
+		return myItemL.size() - holeLen;
 	}
 
 	@Override
@@ -77,7 +100,7 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 			return null;
 
 		// Retrieve the appropriate data field of the appropriate item
-		return refItemHandler.getValue(myItemL.get(aRow), tmpEnum);
+		return refItemHandler.getValue(getItem(aRow), tmpEnum);
 	}
 
 	@Override
@@ -101,7 +124,7 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 			return;
 
 		// Update the appropriate data field of the appropriate item
-		refItemHandler.setValue(myItemL.get(aRow), tmpEnum, aValue);
+		refItemHandler.setValue(getItem(aRow), tmpEnum, aValue);
 	}
 
 	/**
@@ -114,6 +137,8 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 
 		int endIdx = myItemL.size() - 1;
 		myItemL.clear();
+		rowIndexM.clear();
+		rowIndexValidCnt = 0;
 
 		fireTableRowsDeleted(0, endIdx);
 	}
@@ -126,16 +151,18 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 		if (aItem == null)
 			return -1;
 
-		int tmpIdx = 0;
-		for (G1 aObj : myItemL)
-		{
-			if (aObj.equals(aItem) == true)
-				return tmpIdx;
+		var retIdx = rowIndexM.get(aItem);
+		if (retIdx == null)
+			return -1;
 
-			tmpIdx++;
+		// Bring the stale portion of the lookup up to date
+		if (retIdx >= rowIndexValidCnt)
+		{
+			updateRowIndexes();
+			retIdx = rowIndexM.get(aItem);
 		}
 
-		return -1;
+		return retIdx;
 	}
 
 	/**
@@ -143,10 +170,10 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 	 */
 	public G1 getRowItem(int aRow)
 	{
-		if (aRow < 0 || aRow >= myItemL.size())
+		if (aRow < 0 || aRow >= getRowCount())
 			return null;
 
-		return myItemL.get(aRow);
+		return getItem(aRow);
 	}
 
 	/**
@@ -161,13 +188,90 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 			return;
 
 		var startIndex = myItemL.size();
-		var endIndex = startIndex + aItemC.size();
+		var endIndex = startIndex + aItemC.size() - 1;
 
+		// Update the lookup. Note a duplicate item is mapped to the row index of its last occurrence (consistent with
+		// updateRowIndexes()).
+		var tmpIdx = startIndex;
+		for (G1 aItem : aItemC)
+			rowIndexM.put(aItem, tmpIdx++);
 		myItemL.addAll(aItemC);
+		if (rowIndexValidCnt == startIndex)
+			rowIndexValidCnt = myItemL.size();
 
 		fireTableRowsInserted(startIndex, endIndex);
 	}
 
+	/**
+	 * Removes the specified items from our TableModel.
+	 * <p>
+	 * The items are removed in a single pass and a rows deleted event will be sent out for each contiguous range of
+	 * removed rows.
+	 */
+	public void removeItems(Collection<? extends G1> aItemC)
+	{
+		var idxArr = getRowIndexes(aItemC);
+		if (idxArr.length == 0)
+			return;
+
+		// Remove the ranges (in ascending order). The removed rows are accumulated in a "hole" (which is skipped by all
+		// row accessors) so that each notification is consistent with the state of our TableModel. The kept rows that
+		// follow a range are shifted down (in front of the hole) once the range has been removed.
+		var numItems = myItemL.size();
+		holeIdx = idxArr[0];
+		holeLen = 0;
+		var begIdx = 0;
+		for (int c1 = 0; c1 < idxArr.length; c1++)
+		{
+			if (c1 + 1 < idxArr.length && idxArr[c1 + 1] == idxArr[c1] + 1)
+				continue;
+
+			// Update the lookup. Note the entries of all subsequent rows are now stale.
+			for (int aIdx = idxArr[begIdx]; aIdx <= idxArr[c1]; aIdx++)
+				rowIndexM.remove(myItemL.get(aIdx));
+			rowIndexValidCnt = Math.min(rowIndexValidCnt, holeIdx);
+
+			var runLen = c1 - begIdx + 1;
+			holeLen += runLen;
+			fireTableRowsDeleted(holeIdx, holeIdx + runLen - 1);
+
+			var nextIdx = numItems;
+			if (c1 + 1 < idxArr.length)
+				nextIdx = idxArr[c1 + 1];
+			for (int aIdx = idxArr[c1] + 1; aIdx < nextIdx; aIdx++)
+				myItemL.set(holeIdx++, myItemL.get(aIdx));
+
+			begIdx = c1 + 1;
+		}
+
+		// Release the hole (which now resides at the end)
+		myItemL.subList(holeIdx, numItems).clear();
+		holeIdx = 0;
+		holeLen = 0;
+	}
+
+	/**
+	 * Notifies our TableModel that the specified items have been updated.
+	 * <p>
+	 * A rows updated event will be sent out for each contiguous range of updated rows.
+	 */
+	public void updateItems(Collection<? extends G1> aItemC)
+	{
+		var idxArr = getRowIndexes(aItemC);
+		if (idxArr.length == 0)
+			return;
+
+		var begIdx = 0;
+		for (int c1 = 0; c1 < idxArr.length; c1++)
+		{
+			if (c1 + 1 < idxArr.length && idxArr[c1 + 1] == idxArr[c1] + 1)
+				continue;
+
+			fireTableRowsUpdated(idxArr[begIdx], idxArr[c1]);
+			begIdx = c1 + 1;
+		}
+	}
+
 	/**
 	 * Notifies this {@link TableColumnHandler} of the associated {@link JTable}.
 	 */
@@ -177,4 +281,58 @@ public class ItemListTableModel<G1, G2 extends Enum<?>> extends AbstractTableMod
 		workTableColumnHandler.initialize(aTable);
 	}
 
+	/**
+	 * Helper method that returns the (sorted) row indexes of the specified items. Items that are not in our TableModel
+	 * will be ignored.
+	 */
+	private int[] getRowIndexes(Collection<? extends G1> aItemC)
+	{
+		if (aItemC == null || aItemC.isEmpty() == true)
+			return new int[0];
+
+		var retIdxArr = new int[aItemC.size()];
+		var cnt = 0;
+		for (G1 aItem : aItemC)
+		{
+			var tmpIdx = getRowIndex(aItem);
+			if (tmpIdx != -1)
+				retIdxArr[cnt++] = tmpIdx;
+		}
+
+		// Sort and remove any duplicates
+		retIdxArr = Arrays.copyOf(retIdxArr, cnt);
+		Arrays.sort(retIdxArr);
+		cnt = 0;
+		for (int c1 = 0; c1 < retIdxArr.length; c1++)
+		{
+			if (c1 == 0 || retIdxArr[c1] != retIdxArr[c1 - 1])
+				retIdxArr[cnt++] = retIdxArr[c1];
+		}
+
+		return Arrays.copyOf(retIdxArr, cnt);
+	}
+
+	/**
+	 * Helper method that returns the item at the specified row. Any rows that are being removed are skipped.
+	 */
+	private G1 getItem(int aRow)
+	{
+		if (aRow < holeIdx)
+			return myItemL.get(aRow);
+
+		return myItemL.get(aRow + holeLen);
+	}
+
+	/**
+	 * Helper method that updates the stale portion of the item to row index lookup.
+	 */
+	private void updateRowIndexes()
+	{
+		var numRows = getRowCount();
+		for (int c1 = rowIndexValidCnt; c1 < numRows; c1++)
+			rowIndexM.put(getItem(c1), c1);
+
+		rowIndexValidCnt = numRows;
+	}
+
 }
@@ -32,7 +32,11 @@ package glum.gui.table;
 
 import java.awt.Component;
 import java.awt.event.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.*;
 import javax.swing.event.TableModelEvent;
@@ -95,13 +99,15 @@ public class TableSorter extends AbstractTableModel
 {
 	// Constants
 	private static final Comparator<?> LEXICAL_COMPARATOR = Comparator.comparing(Object::toString);
+	/** Max number of (coalesced) row events that will be sent out before resorting to a data changed event. */
+	private static final int MaxRowEvents = 256;
 
 	// Ref vars
 	private final TableModel refTableModel;
 	private JTableHeader refTableHeader;
 
 	// State vars
-	private Row[] viewToModel;
+	private int[] viewToModel;
 	private int[] modelToView;
 
 	private final MouseListener mouseListener;
@@ -110,6 +116,12 @@ public class TableSorter extends AbstractTableModel
 	private final Map<Integer, Comparator<?>> columnComparatorIndexM;
 	private final List<Directive> sortingColumnL;
 	private boolean isSortEnabled;
+	private int[] prevViewToModel;
+
+	// Async vars
+	private int asyncSortThreshold;
+	private int asyncSortGen;
+	private PendingSort pendingSort;
 
 	// Render vars
 	private SortIconProvider refSortIconProvider;
@@ -138,6 +150,11 @@ public class TableSorter extends AbstractTableModel
 		columnComparatorIndexM = new HashMap<>();
 		sortingColumnL = new ArrayList<>();
 		isSortEnabled = true;
+		prevViewToModel = null;
+
+		asyncSortThreshold = Integer.MAX_VALUE;
+		asyncSortGen = 0;
+		pendingSort = null;
 
 		refSortIconProvider = DefaultSortIconProvider.Default;
 		sortIconAsceL = ImmutableList.of();
@@ -194,6 +211,14 @@ public class TableSorter extends AbstractTableModel
 		return refTableModel;
 	}
 
+	/**
+	 * Returns true if a sort is being computed in the background.
+	 */
+	public boolean isSortPending()
+	{
+		return pendingSort != null;
+	}
+
 	/**
 	 * Returns true if any columns have a sort directive set.
 	 */
@@ -202,6 +227,23 @@ public class TableSorter extends AbstractTableModel
 		return sortingColumnL.size() != 0;
 	}
 
+	/**
+	 * Sets the number of rows at (or above) which the table will be sorted asynchronously.
+	 * <p>
+	 * When sorted asynchronously, the sort keys are captured on the AWT thread and the rows are then sorted on a
+	 * background thread. Columns with a natural ordering that are composed of numbers or immutable JDK types (String,
+	 * Enum, etc) are ranked on the background thread. Columns with a custom Comparator are ranked on the AWT thread.
+	 * The prior row order (or the natural order) remains in effect until the sorted order is ready, at which point it
+	 * is installed (on the AWT thread) and a data changed event is sent out. Model changes that occur while the sort is
+	 * in progress are applied to the sorted order when it is installed.
+	 * <p>
+	 * A value of Integer.MAX_VALUE (the default) disables asynchronous sorting.
+	 */
+	public void setAsyncSortThreshold(int aNumRows)
+	{
+		asyncSortThreshold = aNumRows;
+	}
+
 	/**
 	 * Sets in the Comparator that will be associated with columns of data type, aType.
 	 * <p>
@@ -300,7 +342,7 @@ public class TableSorter extends AbstractTableModel
 
 	public int modelIndex(int viewIndex)
 	{
-		return getViewToModel()[viewIndex].modelIndex;
+		return getViewToModel()[viewIndex];
 	}
 
 	public int viewIndex(int modelIndex)
@@ -362,8 +404,31 @@ public class TableSorter extends AbstractTableModel
 
 	private void clearSortingState()
 	{
+		if (viewToModel != null)
+			prevViewToModel = viewToModel;
 		viewToModel = null;
 		modelToView = null;
+
+		// Abandon any sort in progress
+		asyncSortGen++;
+		if (pendingSort != null)
+			pendingSort.cancel();
+		pendingSort = null;
+	}
+
+	/**
+	 * Helper method that compares the specified values. A null value is defined as less than everything (except null).
+	 */
+	private static int compareValues(Object aVal1, Object aVal2, Comparator<Object> aComparator)
+	{
+		if (aVal1 == null && aVal2 == null)
+			return 0;
+		else if (aVal1 == null)
+			return -1;
+		else if (aVal2 == null)
+			return 1;
+
+		return aComparator.compare(aVal1, aVal2);
 	}
 
 	/**
@@ -463,23 +528,153 @@ public class TableSorter extends AbstractTableModel
 		return modelToView;
 	}
 
-	private Row[] getViewToModel()
+	private int[] getViewToModel()
 	{
 		if (viewToModel == null)
 		{
 			int tableModelRowCount = refTableModel.getRowCount();
-			viewToModel = new Row[tableModelRowCount];
-			for (int row = 0; row < tableModelRowCount; row++)
+
+			// Sort in the background (if configured). The prior row order (if consistent with the model) or the natural
+			// order will be used until the sorted order is ready.
+			var tmpPrevViewArr = prevViewToModel;
+			prevViewToModel = null;
+			if (isSorting() == true && tableModelRowCount >= asyncSortThreshold)
 			{
-				viewToModel[row] = new Row(row);
+				if (tmpPrevViewArr != null && tmpPrevViewArr.length == tableModelRowCount)
+					viewToModel = tmpPrevViewArr;
+				else
+					viewToModel = createNaturalOrder(tableModelRowCount);
+
+				submitAsyncSort();
+				return viewToModel;
 			}
 
-			if (isSorting())
+			if (isSorting() == true)
+				viewToModel = new SortKeySet(createNaturalOrder(tableModelRowCount)).sort(false);
+			else
+				viewToModel = createNaturalOrder(tableModelRowCount);
+		}
+		return viewToModel;
+	}
+
+	/**
+	 * Helper method that installs the row order computed by a background sort. The model changes that occurred while
+	 * the sort was in progress will be applied to the row order.
+	 * <p>
+	 * This method must be executed on the AWT thread.
+	 */
+	private void installAsyncSort(int aGen, int[] aOrderArr, Throwable aExp)
+	{
+		// Bail if the sort has been abandoned
+		if (aGen != asyncSortGen)
+			return;
+
+		var tmpPendingSort = pendingSort;
+		pendingSort = null;
+
+		// Fall back to a synchronous sort if the background sort failed
+		if (aExp != null)
+		{
+			System.err.println("Failed to sort the table in the background. Falling back to a synchronous sort.");
+			(aExp.getCause() != null ? aExp.getCause() : aExp).printStackTrace();
+
+			clearSortingState();
+			viewToModel = new SortKeySet(createNaturalOrder(refTableModel.getRowCount())).sort(false);
+			fireTableDataChanged();
+			return;
+		}
+
+		// Replay the model changes against the sorted order. Inserted and updated rows are tracked (as dirty) so that
+		// they can be merged back in at their sorted position.
+		var ordArr = aOrderArr;
+		var ordLen = ordArr.length;
+		var dirtyS = new HashSet<Integer>();
+		for (int[] aChange : tmpPendingSort.changeL)
+		{
+			var begRow = aChange[1];
+			var endRow = aChange[2];
+			var numRows = endRow - begRow + 1;
+
+			var tmpS = new HashSet<Integer>();
+			if (aChange[0] == TableModelEvent.DELETE)
+			{
+				var cnt = 0;
+				for (int c1 = 0; c1 < ordLen; c1++)
+				{
+					if (ordArr[c1] < begRow)
+						ordArr[cnt++] = ordArr[c1];
+					else if (ordArr[c1] > endRow)
+						ordArr[cnt++] = ordArr[c1] - numRows;
+				}
+				ordLen = cnt;
+
+				for (int aRow : dirtyS)
+				{
+					if (aRow < begRow)
+						tmpS.add(aRow);
+					else if (aRow > endRow)
+						tmpS.add(aRow - numRows);
+				}
+			}
+			else if (aChange[0] == TableModelEvent.INSERT)
+			{
+				for (int c1 = 0; c1 < ordLen; c1++)
+				{
+					if (ordArr[c1] >= begRow)
+						ordArr[c1] += numRows;
+				}
+
+				for (int aRow : dirtyS)
+					tmpS.add(aRow < begRow ? aRow : aRow + numRows);
+				for (int aRow = begRow; aRow <= endRow; aRow++)
+					tmpS.add(aRow);
+			}
+			else
 			{
-				Arrays.sort(viewToModel);
+				tmpS = dirtyS;
+				for (int aRow = begRow; aRow <= endRow; aRow++)
+					tmpS.add(aRow);
 			}
+			dirtyS = tmpS;
 		}
-		return viewToModel;
+
+		// Split the row order into the rows that are kept and the (dirty) rows that need to be merged back in
+		var numRows = refTableModel.getRowCount();
+		var isDirtyArr = new boolean[numRows];
+		var isValid = true;
+		for (int aRow : dirtyS)
+		{
+			if (aRow < numRows)
+				isDirtyArr[aRow] = true;
+			else
+				isValid = false;
+		}
+
+		var keepArr = new int[ordLen];
+		var keepCnt = 0;
+		for (int c1 = 0; c1 < ordLen && isValid == true; c1++)
+		{
+			if (ordArr[c1] >= numRows)
+				isValid = false;
+			else if (isDirtyArr[ordArr[c1]] == false)
+				keepArr[keepCnt++] = ordArr[c1];
+		}
+
+		var addArr = new int[dirtyS.size()];
+		var addCnt = 0;
+		for (int aRow = 0; aRow < numRows; aRow++)
+		{
+			if (isDirtyArr[aRow] == true)
+				addArr[addCnt++] = aRow;
+		}
+
+		// Install the new row order (unless it is not consistent with the model)
+		if (isValid == true && keepCnt + addArr.length == numRows)
+			mergeRows(Arrays.copyOf(keepArr, keepCnt), new SortKeySet(addArr).sort(false));
+		else
+			clearSortingState();
+
+		fireTableDataChanged();
 	}
 
 	/**
@@ -499,6 +694,21 @@ public class TableSorter extends AbstractTableModel
 		sortingStatusChanged();
 	}
 
+	/**
+	 * Helper method that captures the sort keys (on the calling thread) and then sorts the rows on a background thread.
+	 * The sorted row order will be installed (on the AWT thread) once it is ready.
+	 */
+	private void submitAsyncSort()
+	{
+		var tmpGen = ++asyncSortGen;
+		var tmpKeySet = new SortKeySet(createNaturalOrder(refTableModel.getRowCount()));
+
+		var tmpFuture = CompletableFuture.supplyAsync(() -> tmpKeySet.sort(true));
+		pendingSort = new PendingSort(tmpKeySet, tmpFuture);
+		tmpFuture.whenComplete(
+				(aOrderArr, aExp) -> SwingUtilities.invokeLater(() -> installAsyncSort(tmpGen, aOrderArr, aExp)));
+	}
+
 	/**
 	 * Helper method that is triggered whenever any of the sort state changes.
 	 * <p>
@@ -512,47 +722,586 @@ public class TableSorter extends AbstractTableModel
 			refTableHeader.repaint();
 	}
 
+	/**
+	 * Helper method that merges the (sorted) rows, aAddArr, into the (sorted) rows, aKeepArr, and installs the result
+	 * as the current row order.
+	 * <p>
+	 * The insertion point of each added row is located via a binary search (of the remaining kept rows). Thus only
+	 * O(k log n) row comparisons are needed.
+	 * <p>
+	 * Returns the (view) indexes where the rows of aAddArr were placed. The indexes will be in ascending order.
+	 */
+	private int[] mergeRows(int[] aKeepArr, int[] aAddArr)
+	{
+		var newViewArr = new int[aKeepArr.length + aAddArr.length];
+		var retIdxArr = new int[aAddArr.length];
+		int keepIdx = 0;
+		int newIdx = 0;
+		for (int c1 = 0; c1 < aAddArr.length; c1++)
+		{
+			// Locate the insertion point
+			var tmpRow = aAddArr[c1];
+			int lowIdx = keepIdx;
+			int highIdx = aKeepArr.length;
+			while (lowIdx < highIdx)
+			{
+				int midIdx = (lowIdx + highIdx) >>> 1;
+				if (compareRows(aKeepArr[midIdx], tmpRow) < 0)
+					lowIdx = midIdx + 1;
+				else
+					highIdx = midIdx;
+			}
+
+			// Transfer the kept rows that precede the insertion point
+			System.arraycopy(aKeepArr, keepIdx, newViewArr, newIdx, lowIdx - keepIdx);
+			newIdx += lowIdx - keepIdx;
+			keepIdx = lowIdx;
+
+			retIdxArr[c1] = newIdx;
+			newViewArr[newIdx++] = tmpRow;
+		}
+		System.arraycopy(aKeepArr, keepIdx, newViewArr, newIdx, aKeepArr.length - keepIdx);
+
+		viewToModel = newViewArr;
+		modelToView = null;
+
+		return retIdxArr;
+	}
+
+	/**
+	 * Helper method that sends out row events for the specified (sorted) view indexes. Contiguous indexes are
+	 * coalesced into a single event. Delete events are sent out in descending order so that each event is relative
+	 * to the state left by the prior event.
+	 * <p>
+	 * If there are too many events then a single data changed event will be sent out instead.
+	 */
+	private void fireRowEvents(int[] aIdxArr, int aType, int aColumn)
+	{
+		if (aIdxArr.length == 0)
+			return;
+
+		if (countRuns(aIdxArr) > MaxRowEvents)
+		{
+			fireTableDataChanged();
+			return;
+		}
+
+		// Determine the runs
+		var runL = new ArrayList<int[]>();
+		int begIdx = aIdxArr[0];
+		int endIdx = begIdx;
+		for (int c1 = 1; c1 < aIdxArr.length; c1++)
+		{
+			if (aIdxArr[c1] != endIdx + 1)
+			{
+				runL.add(new int[] { begIdx, endIdx });
+				begIdx = aIdxArr[c1];
+			}
+			endIdx = aIdxArr[c1];
+		}
+		runL.add(new int[] { begIdx, endIdx });
+
+		if (aType == TableModelEvent.DELETE)
+			Collections.reverse(runL);
+
+		for (int[] aRun : runL)
+			fireTableChanged(new TableModelEvent(this, aRun[0], aRun[1], aColumn, aType));
+	}
+
+	/**
+	 * Helper method that returns the number of runs of contiguous values in the specified (sorted) indexes.
+	 */
+	private int countRuns(int[] aIdxArr)
+	{
+		var retCnt = 0;
+		for (int c1 = 0; c1 < aIdxArr.length; c1++)
+		{
+			if (c1 == 0 || aIdxArr[c1] != aIdxArr[c1 - 1] + 1)
+				retCnt++;
+		}
+
+		return retCnt;
+	}
+
+	/**
+	 * Helper method that compares the specified (model) rows via the current sort directives. Ties are broken via the
+	 * model index to match the order of a full (stable) sort.
+	 * <p>
+	 * The values are retrieved directly from the model thus this method should only be used for a small number of
+	 * comparisons.
+	 */
+	@SuppressWarnings("unchecked")
+	private int compareRows(int aRow1, int aRow2)
+	{
+		for (Directive aDirective : sortingColumnL)
+		{
+			int column = aDirective.column;
+			Object o1 = refTableModel.getValueAt(aRow1, column);
+			Object o2 = refTableModel.getValueAt(aRow2, column);
+
+			int comparison = compareValues(o1, o2, (Comparator<Object>) getComparator(column));
+			if (comparison != 0)
+				return aDirective.sortDir == SortDir.Descending ? -comparison : comparison;
+		}
+
+		return Integer.compare(aRow1, aRow2);
+	}
+
+	/**
+	 * Helper method that returns the natural (unsorted) row order.
+	 */
+	private static int[] createNaturalOrder(int aNumRows)
+	{
+		var retArr = new int[aNumRows];
+		for (int c1 = 0; c1 < aNumRows; c1++)
+			retArr[c1] = c1;
+
+		return retArr;
+	}
+
+	/**
+	 * Helper method that removes the duplicate values from the specified (sorted) array. The unique values are moved to
+	 * the start of the array and the number of unique values is returned.
+	 */
+	private static int dedupe(long[] aSortArr)
+	{
+		var retCnt = 0;
+		for (int c1 = 0; c1 < aSortArr.length; c1++)
+		{
+			if (c1 == 0 || aSortArr[c1] != aSortArr[retCnt - 1])
+				aSortArr[retCnt++] = aSortArr[c1];
+		}
+
+		return retCnt;
+	}
+
+	/**
+	 * Helper method that sorts the specified array. A parallel sort will be utilized if aIsParallel is true.
+	 */
+	private static void sortArray(long[] aArr, boolean aIsParallel)
+	{
+		if (aIsParallel == true)
+			Arrays.parallelSort(aArr);
+		else
+			Arrays.sort(aArr);
+	}
+
+	/**
+	 * Helper method that sorts the specified array. A parallel sort will be utilized if aIsParallel is true.
+	 */
+	private static void sortArray(double[] aArr, boolean aIsParallel)
+	{
+		if (aIsParallel == true)
+			Arrays.parallelSort(aArr);
+		else
+			Arrays.sort(aArr);
+	}
+
+	/**
+	 * Helper method that sorts the specified array. A parallel sort will be utilized if aIsParallel is true.
+	 */
+	private static <G1> void sortArray(G1[] aArr, Comparator<? super G1> aComparator, boolean aIsParallel)
+	{
+		if (aIsParallel == true)
+			Arrays.parallelSort(aArr, aComparator);
+		else
+			Arrays.sort(aArr, aComparator);
+	}
+
 	// Helper classes
 
-	private class Row implements Comparable<Row>
+	/**
+	 * Class that tracks the state of a sort that is being computed in the background.
+	 */
+	private static class PendingSort
 	{
 		// Attributes
-		private final int modelIndex;
+		private final SortKeySet keySet;
+		private final CompletableFuture<int[]> future;
+
+		/** List of model changes (type, begRow, endRow) that occurred after the sort keys were captured. */
+		private final List<int[]> changeL = new ArrayList<>();
 
 		/** Standard Constructor */
-		public Row(int aIndex)
+		public PendingSort(SortKeySet aKeySet, CompletableFuture<int[]> aFuture)
 		{
-			modelIndex = aIndex;
+			keySet = aKeySet;
+			future = aFuture;
 		}
 
-		@Override
-		@SuppressWarnings("unchecked")
-		public int compareTo(Row aRow)
+		/**
+		 * Cancels the background sort. The sort will stop at its next checkpoint.
+		 */
+		public void cancel()
 		{
-			int row1 = modelIndex;
-			int row2 = aRow.modelIndex;
+			keySet.isAbandoned = true;
+			future.cancel(false);
+		}
+	}
 
+	/**
+	 * Class that holds a snapshot of the sort keys of a set of rows. The snapshot is captured at construction (on the
+	 * AWT thread) and the rows may then be sorted on any thread. Note that the keys of object columns with a custom
+	 * Comparator are ranked at construction so that custom Comparators are only ever utilized on the AWT thread.
+	 * <p>
+	 * The rows are sorted by first reducing the keys of each sorted column to an int rank (equal keys share a rank). The
+	 * ranks of all columns are then combined into a single rank and the rows are sorted via a primitive sort of the
+	 * (rank, row) pairs. Thus each column's Comparator is only utilized while ranking that column.
+	 */
+	private class SortKeySet
+	{
+		// Attributes
+		private final int[] rowArr;
+		private final List<ColumnKey> columnKeyL;
+
+		// State vars
+		private volatile boolean isAbandoned;
+
+		/**
+		 * Standard Constructor
+		 *
+		 * @param aRowArr
+		 *        The (model) rows to be sorted. The rows must be in ascending order.
+		 */
+		public SortKeySet(int[] aRowArr)
+		{
+			rowArr = aRowArr;
+
+			columnKeyL = new ArrayList<>();
 			for (Directive aDirective : sortingColumnL)
 			{
-				int column = aDirective.column;
-				Object o1 = refTableModel.getValueAt(row1, column);
-				Object o2 = refTableModel.getValueAt(row2, column);
-
-				int comparison = 0;
-				// Define null less than everything, except null.
-				if (o1 == null && o2 == null)
-					comparison = 0;
-				else if (o1 == null)
-					comparison = -1;
-				else if (o2 == null)
-					comparison = 1;
+				var isDesc = aDirective.sortDir == SortDir.Descending;
+				var tmpComparator = getComparator(aDirective.column);
+				columnKeyL.add(new ColumnKey(refTableModel, aDirective.column, aRowArr, tmpComparator, isDesc));
+			}
+		}
+
+		/**
+		 * Returns the (stable) sorted order of the rows as an array of model indexes.
+		 *
+		 * @param aIsParallel
+		 *        If true then the sort will be performed via {@link Arrays#parallelSort} (on the common ForkJoin pool).
+		 *        This should only be used for background sorts.
+		 */
+		public int[] sort(boolean aIsParallel)
+		{
+			var numRows = rowArr.length;
+
+			// Combine the ranks of all columns (least significant first) into a single rank
+			var rankArr = new int[numRows];
+			for (int c1 = columnKeyL.size() - 1; c1 >= 0; c1--)
+			{
+				checkAbandoned();
+				var tmpRankArr = columnKeyL.get(c1).computeRanks(aIsParallel);
+				if (c1 == columnKeyL.size() - 1)
+					rankArr = tmpRankArr;
 				else
-					comparison = ((Comparator<Object>) getComparator(column)).compare(o1, o2);
+					rankArr = combineRanks(tmpRankArr, rankArr, aIsParallel);
+			}
+
+			// Sort the rows by rank. Ties are broken via the (ascending) position which results in a stable sort.
+			checkAbandoned();
+			var packArr = new long[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				packArr[c1] = ((long) rankArr[c1] << 32) | c1;
+			sortArray(packArr, aIsParallel);
+
+			var retArr = new int[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				retArr[c1] = rowArr[(int) packArr[c1]];
+			return retArr;
+		}
+
+		/**
+		 * Helper method that throws a {@link CancellationException} if the sort has been abandoned.
+		 */
+		private void checkAbandoned()
+		{
+			if (isAbandoned == true)
+				throw new CancellationException();
+		}
+
+		/**
+		 * Helper method that combines the major and minor ranks into a single (dense) rank.
+		 */
+		private int[] combineRanks(int[] aMajorArr, int[] aMinorArr, boolean aIsParallel)
+		{
+			var packArr = new long[aMajorArr.length];
+			for (int c1 = 0; c1 < packArr.length; c1++)
+				packArr[c1] = ((long) aMajorArr[c1] << 32) | aMinorArr[c1];
+
+			var sortArr = packArr.clone();
+			sortArray(sortArr, aIsParallel);
+			var numUniq = dedupe(sortArr);
+
+			var retArr = new int[packArr.length];
+			for (int c1 = 0; c1 < packArr.length; c1++)
+				retArr[c1] = Arrays.binarySearch(sortArr, 0, numUniq, packArr[c1]);
+			return retArr;
+		}
+	}
+
+	/**
+	 * Class that holds the sort keys of a single column.
+	 * <p>
+	 * The keys of a column (with a natural ordering) that is composed of integral or floating point values will be
+	 * stored in a primitive array. The keys of a column (with a natural ordering) that is composed of immutable JDK
+	 * types will be ranked when the ranks are computed. All other keys will be ranked (at construction) via the
+	 * column's Comparator.
+	 */
+	private static class ColumnKey
+	{
+		// Constants
+		/** Set of immutable JDK types whose natural ordering is safe to evaluate on any thread. */
+		private static final Set<Class<?>> ImmutableKeyClassS = Set.of(String.class, Boolean.class, Character.class,
+				Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+				BigDecimal.class);
 
-				if (comparison != 0)
-					return aDirective.sortDir == SortDir.Descending ? -comparison : comparison;
+		// Attributes
+		private final boolean isDesc;
+		private final int numRows;
+
+		// State vars
+		private long[] longArr;
+		private double[] doubleArr;
+		private Object[] objValArr;
+		private int[] objRankArr;
+		private int objMaxRank;
+		private boolean[] isNullArr;
+
+		/** Standard Constructor */
+		@SuppressWarnings("unchecked")
+		public ColumnKey(TableModel aTableModel, int aColumn, int[] aRowArr, Comparator<?> aComparator, boolean aIsDesc)
+		{
+			isDesc = aIsDesc;
+			numRows = aRowArr.length;
+
+			longArr = null;
+			doubleArr = null;
+			objValArr = null;
+			objRankArr = null;
+			objMaxRank = 0;
+			isNullArr = null;
+
+			// Retrieve the keys (from the model)
+			var tmpValArr = new Object[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				tmpValArr[c1] = aTableModel.getValueAt(aRowArr[c1], aColumn);
+
+			// Extract the keys into a primitive array (if the column is composed of numbers with a natural ordering)
+			var isPrimitive = aComparator == Comparator.naturalOrder();
+			for (int c1 = 0; c1 < numRows && isPrimitive == true; c1++)
+			{
+				var tmpVal = tmpValArr[c1];
+				if (tmpVal == null)
+				{
+					if (isNullArr == null)
+						isNullArr = new boolean[numRows];
+					isNullArr[c1] = true;
+				}
+				else if (doubleArr == null && (tmpVal instanceof Integer || tmpVal instanceof Long
+						|| tmpVal instanceof Short || tmpVal instanceof Byte))
+				{
+					if (longArr == null)
+						longArr = new long[numRows];
+					longArr[c1] = ((Number) tmpVal).longValue();
+				}
+				else if (longArr == null && (tmpVal instanceof Double || tmpVal instanceof Float))
+				{
+					if (doubleArr == null)
+						doubleArr = new double[numRows];
+					doubleArr[c1] = ((Number) tmpVal).doubleValue();
+				}
+				else
+				{
+					isPrimitive = false;
+				}
 			}
-			return 0;
+			if (isPrimitive == true)
+				return;
+
+			// Fall back to object keys
+			longArr = null;
+			doubleArr = null;
+			isNullArr = new boolean[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				isNullArr[c1] = tmpValArr[c1] == null;
+
+			// Defer the ranking of immutable keys with a natural ordering (they may be ranked on any thread). All other
+			// keys are ranked now (on the calling thread) since a custom Comparator may not be thread safe.
+			if (aComparator == Comparator.naturalOrder() && isImmutableKeys(tmpValArr) == true)
+				objValArr = tmpValArr;
+			else
+				rankObjects(tmpValArr, (Comparator<Object>) aComparator, false);
+		}
+
+		/**
+		 * Returns the rank of each key. Equal keys will have the same rank and null keys will have a rank of 0 (less than
+		 * everything). The ranks will be reversed if the column is sorted in descending order.
+		 *
+		 * @param aIsParallel
+		 *        If true then the keys will be sorted via {@link Arrays#parallelSort}.
+		 */
+		public int[] computeRanks(boolean aIsParallel)
+		{
+			var retArr = new int[numRows];
+			var maxRank = 0;
+			if (longArr != null)
+			{
+				var minVal = Long.MAX_VALUE;
+				var maxVal = Long.MIN_VALUE;
+				for (int c1 = 0; c1 < numRows; c1++)
+				{
+					if (isNull(c1) == false)
+					{
+						minVal = Math.min(minVal, longArr[c1]);
+						maxVal = Math.max(maxVal, longArr[c1]);
+					}
+				}
+
+				// Utilize the offset (from the min key) as the rank if the keys span a small range. Note the subtraction
+				// may overflow for extreme ranges.
+				var tmpRange = maxVal - minVal;
+				if (minVal <= maxVal && tmpRange >= 0 && tmpRange < Integer.MAX_VALUE - 1)
+				{
+					maxRank = (int) (tmpRange + 1);
+					for (int c1 = 0; c1 < numRows; c1++)
+					{
+						if (isNull(c1) == false)
+							retArr[c1] = (int) (longArr[c1] - minVal) + 1;
+					}
+				}
+				else
+				{
+					var sortArr = new long[numRows];
+					var cnt = 0;
+					for (int c1 = 0; c1 < numRows; c1++)
+					{
+						if (isNull(c1) == false)
+							sortArr[cnt++] = longArr[c1];
+					}
+					sortArr = Arrays.copyOf(sortArr, cnt);
+					sortArray(sortArr, aIsParallel);
+					maxRank = dedupe(sortArr);
+
+					for (int c1 = 0; c1 < numRows; c1++)
+					{
+						if (isNull(c1) == false)
+							retArr[c1] = Arrays.binarySearch(sortArr, 0, maxRank, longArr[c1]) + 1;
+					}
+				}
+			}
+			else if (doubleArr != null)
+			{
+				var sortArr = new double[numRows];
+				var cnt = 0;
+				for (int c1 = 0; c1 < numRows; c1++)
+				{
+					if (isNull(c1) == false)
+						sortArr[cnt++] = doubleArr[c1];
+				}
+				sortArr = Arrays.copyOf(sortArr, cnt);
+				sortArray(sortArr, aIsParallel);
+
+				// Note doubles are deduped via Double.compare() to match the sort (and binary search) semantics
+				for (int c1 = 0; c1 < sortArr.length; c1++)
+				{
+					if (c1 == 0 || Double.compare(sortArr[c1], sortArr[maxRank - 1]) != 0)
+						sortArr[maxRank++] = sortArr[c1];
+				}
+
+				for (int c1 = 0; c1 < numRows; c1++)
+				{
+					if (isNull(c1) == false)
+						retArr[c1] = Arrays.binarySearch(sortArr, 0, maxRank, doubleArr[c1]) + 1;
+				}
+			}
+			else if (objValArr != null || objRankArr != null)
+			{
+				// Rank the deferred keys
+				if (objRankArr == null)
+					rankObjects(objValArr, getNaturalComparator(), aIsParallel);
+
+				retArr = objRankArr.clone();
+				maxRank = objMaxRank;
+			}
+
+			// Reverse the ranks if sorting in descending order
+			if (isDesc == true)
+			{
+				for (int c1 = 0; c1 < numRows; c1++)
+					retArr[c1] = maxRank - retArr[c1];
+			}
+
+			return retArr;
+		}
+
+		/**
+		 * Helper method that computes the (ascending) rank of each (object) key via the specified Comparator.
+		 *
+		 * @param aIsParallel
+		 *        If true then the keys will be sorted via {@link Arrays#parallelSort}.
+		 */
+		private void rankObjects(Object[] aValArr, Comparator<Object> aComparator, boolean aIsParallel)
+		{
+			var sortArr = new Object[numRows];
+			var cnt = 0;
+			for (int c1 = 0; c1 < numRows; c1++)
+			{
+				if (isNull(c1) == false)
+					sortArr[cnt++] = aValArr[c1];
+			}
+			sortArr = Arrays.copyOf(sortArr, cnt);
+			sortArray(sortArr, aComparator, aIsParallel);
+
+			var maxRank = 0;
+			for (int c1 = 0; c1 < sortArr.length; c1++)
+			{
+				if (c1 == 0 || aComparator.compare(sortArr[c1], sortArr[maxRank - 1]) != 0)
+					sortArr[maxRank++] = sortArr[c1];
+			}
+
+			objRankArr = new int[numRows];
+			objMaxRank = maxRank;
+			for (int c1 = 0; c1 < numRows; c1++)
+			{
+				if (isNull(c1) == false)
+					objRankArr[c1] = Arrays.binarySearch(sortArr, 0, maxRank, aValArr[c1], aComparator) + 1;
+			}
+		}
+
+		/**
+		 * Helper method that returns the natural ordering Comparator (typed for use with object keys).
+		 */
+		@SuppressWarnings("unchecked")
+		private static Comparator<Object> getNaturalComparator()
+		{
+			return (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
+		}
+
+		/**
+		 * Helper method that returns true if all of the (non null) keys are of an immutable JDK type whose natural
+		 * ordering is safe to evaluate on any thread.
+		 */
+		private static boolean isImmutableKeys(Object[] aValArr)
+		{
+			for (Object aVal : aValArr)
+			{
+				if (aVal == null || aVal instanceof Enum)
+					continue;
+				if (ImmutableKeyClassS.contains(aVal.getClass()) == false)
+					return false;
+			}
+
+			return true;
+		}
+
+		/**
+		 * Helper method that returns true if the key at the specified index is null.
+		 */
+		private boolean isNull(int aIdx)
+		{
+			return isNullArr != null && isNullArr[aIdx] == true;
 		}
 	}
 
@@ -610,12 +1359,174 @@ public class TableSorter extends AbstractTableModel
 				return;
 			}
 
+			// Incrementally apply row level changes. This is only possible if the row order has already been computed
+			// and the event describes a specific set of rows (rather than the entire table). Changes to a large portion of
+			// the table are handled via a full sort.
+			var begRow = e.getFirstRow();
+			var endRow = e.getLastRow();
+			var numRows = endRow - begRow + 1;
+			if (viewToModel != null && begRow >= 0 && endRow != Integer.MAX_VALUE && begRow <= endRow
+					&& numRows < asyncSortThreshold && numRows <= Math.max(MaxRowEvents, viewToModel.length / 4))
+			{
+				// Record the change so that it can be applied to the sort in progress (if any)
+				var isOrderChange = e.getType() != TableModelEvent.UPDATE || column == TableModelEvent.ALL_COLUMNS
+						|| getSortDir(column) != SortDir.NotSorted;
+				if (pendingSort != null && isOrderChange == true)
+					pendingSort.changeL.add(new int[] { e.getType(), begRow, endRow });
+
+				var isDone = false;
+				if (e.getType() == TableModelEvent.INSERT)
+					isDone = processRowsInserted(begRow, endRow, numRows);
+				else if (e.getType() == TableModelEvent.DELETE)
+					isDone = processRowsDeleted(begRow, endRow, numRows);
+				else if (e.getType() == TableModelEvent.UPDATE)
+					isDone = processRowsUpdated(begRow, endRow, column);
+
+				if (isDone == true)
+					return;
+			}
+
 			// Something has happened to the data that may have invalidated the row
 			// order.
 			clearSortingState();
 			fireTableDataChanged();
 			return;
 		}
+
+		/**
+		 * Helper method that removes the (model) rows, [aBegRow, aEndRow], from the current row order.
+		 * <p>
+		 * Returns false if the change could not be applied incrementally.
+		 */
+		private boolean processRowsDeleted(int aBegRow, int aEndRow, int aNumRows)
+		{
+			// Bail if the current row order is not consistent with the model
+			var oldViewArr = viewToModel;
+			if (oldViewArr.length != refTableModel.getRowCount() + aNumRows)
+				return false;
+
+			// Remove the deleted rows and shift the model index of all subsequent rows
+			var newViewArr = new int[oldViewArr.length - aNumRows];
+			var delViewArr = new int[aNumRows];
+			var delCnt = 0;
+			var newCnt = 0;
+			for (int c1 = 0; c1 < oldViewArr.length; c1++)
+			{
+				var tmpIdx = oldViewArr[c1];
+				if (tmpIdx < aBegRow)
+					newViewArr[newCnt++] = tmpIdx;
+				else if (tmpIdx > aEndRow)
+					newViewArr[newCnt++] = tmpIdx - aNumRows;
+				else
+					delViewArr[delCnt++] = c1;
+			}
+
+			viewToModel = newViewArr;
+			modelToView = null;
+
+			fireRowEvents(delViewArr, TableModelEvent.DELETE, TableModelEvent.ALL_COLUMNS);
+			return true;
+		}
+
+		/**
+		 * Helper method that inserts the (model) rows, [aBegRow, aEndRow], into the current row order.
+		 * <p>
+		 * Returns false if the change could not be applied incrementally.
+		 */
+		private boolean processRowsInserted(int aBegRow, int aEndRow, int aNumRows)
+		{
+			// Bail if the current row order is not consistent with the model
+			var oldViewArr = viewToModel;
+			if (oldViewArr.length + aNumRows != refTableModel.getRowCount())
+				return false;
+
+			// Shift the model index of all rows at (or after) the insertion point
+			var keepViewArr = new int[oldViewArr.length];
+			for (int c1 = 0; c1 < oldViewArr.length; c1++)
+			{
+				var tmpIdx = oldViewArr[c1];
+				if (tmpIdx < aBegRow)
+					keepViewArr[c1] = tmpIdx;
+				else
+					keepViewArr[c1] = tmpIdx + aNumRows;
+			}
+
+			// Sort the inserted rows and merge them in
+			var insViewArr = new int[aNumRows];
+			for (int c1 = 0; c1 < aNumRows; c1++)
+				insViewArr[c1] = aBegRow + c1;
+			insViewArr = new SortKeySet(insViewArr).sort(false);
+
+			var insIdxArr = mergeRows(keepViewArr, insViewArr);
+			fireRowEvents(insIdxArr, TableModelEvent.INSERT, TableModelEvent.ALL_COLUMNS);
+			return true;
+		}
+
+		/**
+		 * Helper method that relocates the (model) rows, [aBegRow, aEndRow], within the current row order.
+		 * <p>
+		 * Returns false if the change could not be applied incrementally.
+		 */
+		private boolean processRowsUpdated(int aBegRow, int aEndRow, int aColumn)
+		{
+			// Bail if the current row order is not consistent with the model
+			var oldViewArr = viewToModel;
+			if (oldViewArr.length != refTableModel.getRowCount() || aEndRow >= oldViewArr.length)
+				return false;
+
+			// Retrieve the current (view) indexes of the updated rows
+			var mapArr = getModelToView();
+			var numRows = aEndRow - aBegRow + 1;
+			var oldIdxArr = new int[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				oldIdxArr[c1] = mapArr[aBegRow + c1];
+
+			// If the column does not affect the sort then the row order is not affected
+			if (aColumn != TableModelEvent.ALL_COLUMNS && getSortDir(aColumn) == SortDir.NotSorted)
+			{
+				Arrays.sort(oldIdxArr);
+				fireRowEvents(oldIdxArr, TableModelEvent.UPDATE, aColumn);
+				return true;
+			}
+
+			// Remove the updated rows and then merge them back in at their (new) sorted position
+			var keepViewArr = new int[oldViewArr.length - numRows];
+			var keepCnt = 0;
+			for (int aRow : oldViewArr)
+			{
+				if (aRow < aBegRow || aRow > aEndRow)
+					keepViewArr[keepCnt++] = aRow;
+			}
+
+			var updViewArr = new int[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				updViewArr[c1] = aBegRow + c1;
+			updViewArr = new SortKeySet(updViewArr).sort(false);
+
+			var newIdxArr = mergeRows(keepViewArr, updViewArr);
+
+			// Send out update events if the rows have not moved
+			var tmpIdxArr = new int[numRows];
+			for (int c1 = 0; c1 < numRows; c1++)
+				tmpIdxArr[c1] = mapArr[updViewArr[c1]];
+			Arrays.sort(oldIdxArr);
+			if (Arrays.equals(tmpIdxArr, newIdxArr) == true)
+			{
+				fireRowEvents(newIdxArr, TableModelEvent.UPDATE, aColumn);
+				return true;
+			}
+
+			// Send out events that remove the rows from their old position and insert them at the new position
+			if (countRuns(oldIdxArr) + countRuns(newIdxArr) > MaxRowEvents)
+			{
+				fireTableDataChanged();
+				return true;
+			}
+
+			fireRowEvents(oldIdxArr, TableModelEvent.DELETE, TableModelEvent.ALL_COLUMNS);
+			fireRowEvents(newIdxArr, TableModelEvent.INSERT, TableModelEvent.ALL_COLUMNS);
+			return true;
+		}
 	}
 
 	private class MouseHandler extends MouseAdapter
@@ -15,9 +15,13 @@ package glum.item;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -25,6 +29,22 @@ import com.google.common.collect.Sets;
 
 /**
  * Base implementation of the ItemManager interface.
+ * <p>
+ * The items are stored in a list (duplicates are allowed) which is the source of truth. An identity based index of the
+ * items is maintained so that determining whether an item is managed does not depend on the item's hashCode (which may
+ * change when an item is mutated in place). Thus {@link #addItems(Collection)} and {@link #updateItems(Collection)} are
+ * proportional to the number of items changed while {@link #removeItems(Collection)} requires a single pass over the
+ * managed items. The list returned by {@link #getAllItems()} is lazily constructed and cached until the next change.
+ * <p>
+ * Note the following:
+ * <ul>
+ * <li>Items are removed via equals (consistent with {@link List#removeAll(Collection)}) or via identity (==). Thus an
+ * item whose hashCode has changed (since it was added) can still be removed.
+ * <li>Items are added / updated via identity (==). Thus an item that is equal to (but not the same instance as) a
+ * managed item will be added and an update to such an item will be ignored.
+ * <li>If any of the removed items is managed more than once then the removal will be sent out as a full
+ * {@link ItemEventType#ItemsChanged} notification rather than as an {@link ItemChangeSet}.
+ * </ul>
  *
  * @author lopeznr1
  */
@@ -33,7 +53,9 @@ public class BaseItemManager<G1> implements ItemManager<G1>
 	// State vars
 	private List<ItemEventListener> listenerL;
 
-	private ImmutableList<G1> fullItemL;
+	private ArrayList<G1> fullItemL;
+	private IdentityHashMap<G1, Integer> fullCountM;
+	private ImmutableList<G1> cacheItemL;
 	private ImmutableSet<G1> pickItemS;
 
 	/**
@@ -43,7 +65,9 @@ public class BaseItemManager<G1> implements ItemManager<G1>
 	{
 		listenerL = new ArrayList<>();
 
-		fullItemL = ImmutableList.of();
+		fullItemL = new ArrayList<>();
+		fullCountM = new IdentityHashMap<>();
+		cacheItemL = ImmutableList.of();
 		pickItemS = ImmutableSet.of();
 	}
 
@@ -62,7 +86,11 @@ public class BaseItemManager<G1> implements ItemManager<G1>
 	@Override
 	public ImmutableList<G1> getAllItems()
 	{
-		return fullItemL;
+		// Rebuild the (cached) list if it is stale
+		if (cacheItemL == null)
+			cacheItemL = ImmutableList.copyOf(fullItemL);
+
+		return cacheItemL;
 	}
 
 	@Override
@@ -77,26 +105,115 @@ public class BaseItemManager<G1> implements ItemManager<G1>
 		return pickItemS;
 	}
 
+	@Override
+	public void addItems(Collection<G1> aItemC)
+	{
+		// Determine the items that are actually new
+		var addItemL = new ArrayList<G1>();
+		for (G1 aItem : aItemC)
+		{
+			if (fullCountM.containsKey(aItem) == true)
+				continue;
+
+			indexAdd(aItem);
+			addItemL.add(aItem);
+		}
+
+		// Bail if nothing changed
+		if (addItemL.isEmpty() == true)
+			return;
+		fullItemL.addAll(addItemL);
+		cacheItemL = null;
+
+		// Send out the appropriate notifications
+		notifyListeners(this, new ItemChangeSet<>(addItemL, ImmutableList.of(), ImmutableList.of()));
+	}
+
 	@Override
 	public void removeItems(Collection<G1> aItemC)
 	{
-		List<G1> tmpTrackL = new ArrayList<>(fullItemL);
-		tmpTrackL.removeAll(aItemC);
-		fullItemL = ImmutableList.copyOf(tmpTrackL);
+		// Bail if there is nothing to remove
+		if (aItemC.isEmpty() == true || fullItemL.isEmpty() == true)
+			return;
+
+		// Determine the items that are actually removed (in a single pass). Note the items are matched via equals with
+		// a fallback to identity (the hashCode of an item may have changed since it was added).
+		var delS = new HashSet<G1>(aItemC);
+		var delIdS = Collections.newSetFromMap(new IdentityHashMap<G1, Boolean>());
+		delIdS.addAll(aItemC);
+		Predicate<G1> isDelPred = aItem -> delIdS.contains(aItem) == true || delS.contains(aItem) == true;
+
+		var delItemL = new ArrayList<G1>();
+		fullItemL.removeIf(aItem -> {
+			if (isDelPred.test(aItem) == false)
+				return false;
+
+			delItemL.add(aItem);
+			return true;
+		});
+
+		// Bail if nothing changed
+		if (delItemL.isEmpty() == true)
+			return;
+		cacheItemL = null;
+
+		// Update the identity index. Note duplicates are detected via the counts prior to removal.
+		var isDupeRemoved = false;
+		for (G1 aItem : delItemL)
+		{
+			isDupeRemoved |= fullCountM.get(aItem) > 1;
+			indexDel(aItem);
+		}
+
+		// Update the picked items to contain items only in fullItemL
+		var isPickChanged = false;
+		for (G1 aItem : pickItemS)
+			isPickChanged |= isDelPred.test(aItem);
+		if (isPickChanged == true)
+		{
+			Set<G1> tmpS = new LinkedHashSet<>(pickItemS);
+			tmpS.removeIf(isDelPred);
+			pickItemS = ImmutableSet.copyOf(tmpS);
+		}
+
+		// Send out the appropriate notifications. Duplicate items can not be described by an ItemChangeSet.
+		if (isDupeRemoved == true)
+			notifyListeners(this, ItemEventType.ItemsChanged);
+		else
+			notifyListeners(this, new ItemChangeSet<>(ImmutableList.of(), delItemL, ImmutableList.of()));
+		if (isPickChanged == true)
+			notifyListeners(this, ItemEventType.ItemsSelected);
+	}
+
+	@Override
+	public void updateItems(Collection<G1> aItemC)
+	{
+		// Determine the (unique) items that are managed
+		var updItemL = new ArrayList<G1>();
+		var updIdS = Collections.newSetFromMap(new IdentityHashMap<G1, Boolean>());
+		for (G1 aItem : aItemC)
+		{
+			if (fullCountM.containsKey(aItem) == true && updIdS.add(aItem) == true)
+				updItemL.add(aItem);
+		}
 
-		Set<G1> tmpTrackS = new LinkedHashSet<>(pickItemS);
-		tmpTrackS.removeAll(aItemC);
-		pickItemS = ImmutableSet.copyOf(tmpTrackS);
+		// Bail if nothing changed
+		if (updItemL.isEmpty() == true)
+			return;
 
 		// Send out the appropriate notifications
-		notifyListeners(this, ItemEventType.ItemsChanged);
-		notifyListeners(this, ItemEventType.ItemsSelected);
+		notifyListeners(this, new ItemChangeSet<>(ImmutableList.of(), ImmutableList.of(), updItemL));
 	}
 
 	@Override
 	public void setAllItems(Collection<G1> aItemC)
 	{
-		fullItemL = ImmutableList.copyOf(aItemC);
+		fullItemL = new ArrayList<>(aItemC);
+		cacheItemL = null;
+
+		fullCountM = new IdentityHashMap<>();
+		for (G1 aItem : fullItemL)
+			indexAdd(aItem);
 
 		// Update the picked items to contain items only in fullItemL
 		Set<G1> tmpS = new LinkedHashSet<>(fullItemL);
@@ -121,6 +238,29 @@ public class BaseItemManager<G1> implements ItemManager<G1>
 		notifyListeners(this, ItemEventType.ItemsSelected);
 	}
 
+	/**
+	 * Helper method that records an occurrence of the specified item in the identity index.
+	 */
+	private void indexAdd(G1 aItem)
+	{
+		fullCountM.merge(aItem, 1, Integer::sum);
+	}
+
+	/**
+	 * Helper method that removes an occurrence of the specified item from the identity index.
+	 */
+	private void indexDel(G1 aItem)
+	{
+		var tmpCnt = fullCountM.get(aItem);
+		if (tmpCnt == null)
+			return;
+
+		if (tmpCnt > 1)
+			fullCountM.put(aItem, tmpCnt - 1);
+		else
+			fullCountM.remove(aItem);
+	}
+
 	/**
 	 * Sends out notification to all the listeners of the specified event.
 	 */
@@ -130,4 +270,13 @@ public class BaseItemManager<G1> implements ItemManager<G1>
 			aListener.handleItemEvent(aSource, aEventType);
 	}
 
+	/**
+	 * Sends out notification to all the listeners of the specified change set.
+	 */
+	protected void notifyListeners(Object aSource, ItemChangeSet<G1> aChangeSet)
+	{
+		for (ItemEventListener aListener : listenerL)
+			aListener.handleItemChange(aSource, aChangeSet);
+	}
+
 }
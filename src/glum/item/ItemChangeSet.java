@@ -0,0 +1,106 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.item;
+
+import java.util.Collection;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Immutable object that describes an incremental change to the items of an {@link ItemManager}.
+ * <p>
+ * A change set is composed of the items that were added, the items that were removed, and the items that were updated
+ * (mutated in place).
+ *
+ * @author lopeznr1
+ */
+public class ItemChangeSet<G1>
+{
+	// Attributes
+	private final ImmutableList<G1> addItemL;
+	private final ImmutableList<G1> delItemL;
+	private final ImmutableList<G1> updItemL;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aAddItemC
+	 *        The items that were added.
+	 * @param aDelItemC
+	 *        The items that were removed.
+	 * @param aUpdItemC
+	 *        The items that were updated.
+	 */
+	public ItemChangeSet(Collection<? extends G1> aAddItemC, Collection<? extends G1> aDelItemC,
+			Collection<? extends G1> aUpdItemC)
+	{
+		addItemL = ImmutableList.copyOf(aAddItemC);
+		delItemL = ImmutableList.copyOf(aDelItemC);
+		updItemL = ImmutableList.copyOf(aUpdItemC);
+	}
+
+	/**
+	 * Returns the items that were added.
+	 */
+	public ImmutableList<G1> getAddedItems()
+	{
+		return addItemL;
+	}
+
+	/**
+	 * Returns the items that were removed.
+	 */
+	public ImmutableList<G1> getRemovedItems()
+	{
+		return delItemL;
+	}
+
+	/**
+	 * Returns the items that were updated (mutated in place).
+	 */
+	public ImmutableList<G1> getUpdatedItems()
+	{
+		return updItemL;
+	}
+
+	/**
+	 * Returns the {@link ItemEventType} that best describes this change set.
+	 * <p>
+	 * A change set that only updates items corresponds to {@link ItemEventType#ItemsMutated} otherwise
+	 * {@link ItemEventType#ItemsChanged} is returned.
+	 */
+	public ItemEventType getEventType()
+	{
+		if (addItemL.isEmpty() == true && delItemL.isEmpty() == true)
+			return ItemEventType.ItemsMutated;
+
+		return ItemEventType.ItemsChanged;
+	}
+
+	/**
+	 * Returns true if there are no changes in this change set.
+	 */
+	public boolean isEmpty()
+	{
+		return addItemL.isEmpty() == true && delItemL.isEmpty() == true && updItemL.isEmpty() == true;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ItemChangeSet [numAdd=" + addItemL.size() + ", numDel=" + delItemL.size() + ", numUpd="
+				+ updItemL.size() + "]";
+	}
+
+}
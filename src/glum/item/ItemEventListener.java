@@ -30,4 +30,21 @@ public interface ItemEventListener
 	 */
 	public void handleItemEvent(Object aSource, ItemEventType aEventType);
 
+	/**
+	 * Notification method that an incremental change has been made to the items.
+	 * <p>
+	 * The default implementation delegates to {@link #handleItemEvent(Object, ItemEventType)} with the event type
+	 * returned by {@link ItemChangeSet#getEventType()}. Listeners that are able to process the individual changes should
+	 * override this method.
+	 *
+	 * @param aSource
+	 *        The object that generated this event.
+	 * @param aChangeSet
+	 *        The change set that describes the items that were added, removed, or updated.
+	 */
+	public default void handleItemChange(Object aSource, ItemChangeSet<?> aChangeSet)
+	{
+		handleItemEvent(aSource, aChangeSet.getEventType());
+	}
+
 }
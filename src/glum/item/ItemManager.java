@@ -13,7 +13,9 @@
 // limitations under the License.
 package glum.item;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 
 import com.google.common.collect.ImmutableSet;
 
@@ -31,14 +33,60 @@ public interface ItemManager<G1> extends ItemProcessor<G1>
 	 */
 	public ImmutableSet<G1> getSelectedItems();
 
+	/**
+	 * Adds the specified items to this {@link ItemManager}.
+	 * <p>
+	 * Items that are already managed will be ignored. Implementations should notify listeners via an
+	 * {@link ItemChangeSet}.
+	 * <p>
+	 * The default implementation falls back to {@link #setAllItems(Collection)}.
+	 *
+	 * @param aItemC
+	 *        The list of items to be added.
+	 */
+	public default void addItems(Collection<G1> aItemC)
+	{
+		var fullItemL = new ArrayList<G1>(getAllItems());
+		var fullItemS = new HashSet<G1>(fullItemL);
+		for (G1 aItem : aItemC)
+		{
+			if (fullItemS.add(aItem) == true)
+				fullItemL.add(aItem);
+		}
+
+		// Bail if nothing changed
+		if (fullItemL.size() == getNumItems())
+			return;
+
+		setAllItems(fullItemL);
+	}
+
 	/**
 	 * Removes the specified lists of items from this {@link ItemManager}.
+	 * <p>
+	 * Items that are not managed will be ignored. Implementations should notify listeners via an {@link ItemChangeSet}.
 	 *
 	 * @param aItemC
 	 *        The list of items to be removed.
 	 */
 	public void removeItems(Collection<G1> aItemC);
 
+	/**
+	 * Notifies this {@link ItemManager} that the specified items have been updated (mutated in place).
+	 * <p>
+	 * Items that are not managed will be ignored. Implementations should notify listeners via an
+	 * {@link ItemChangeSet}.
+	 * <p>
+	 * The default implementation falls back to {@link #setAllItems(Collection)}.
+	 *
+	 * @param aItemC
+	 *        The list of items that have been updated.
+	 */
+	public default void updateItems(Collection<G1> aItemC)
+	{
+		setAllItems(getAllItems());
+	}
+
 	/**
 	 * Installs the specified items into this {@link ItemManager}.
 	 * <p>
@@ -15,6 +15,10 @@ package glum.zio;
 
 import java.io.IOException;
 
+import com.google.common.base.Charsets;
+
+import glum.digest.Digest;
+
 /**
  * Interface that defines methods used to deserialize data using the glum.zio framework.
  *
@@ -39,9 +43,23 @@ public interface ZinStream extends AutoCloseable
 	 * Note, if the stream is still open, then the returned value will be the checksum evaluated as of the last byte
 	 * grabbed from this stream (with no buffering effects - closing the stream immediately will not result in a
 	 * different value).
+	 * <p>
+	 * Returns null if a checksum is not being computed or if the checksum was invalidated via {@link #seek(long)}.
 	 */
 	public String getCheckSum() throws IOException;
 
+	/**
+	 * Returns the checksum (as a {@link Digest}) of the stream.
+	 * <p>
+	 * See {@link #getCheckSum()} for the semantics associated with a live stream.
+	 * <p>
+	 * The default implementation returns null (the digest is not available).
+	 */
+	public default Digest getDigest() throws IOException
+	{
+		return null;
+	}
+
 	/**
 	 * Returns the virtual position of this stream
 	 *
@@ -85,6 +103,46 @@ public interface ZinStream extends AutoCloseable
 	 */
 	public short readShort() throws IOException;
 
+	/**
+	 * Returns the next variable length int. The value is stored as a zigzag encoded LEB128 value and will take anywhere
+	 * from 1 byte to 5 bytes of storage. The value should have been written with the inverse method
+	 * {@link ZoutStream#writeVarInt}.
+	 */
+	public default int readVarInt() throws IOException
+	{
+		// Decode the LEB128 value
+		var rawVal = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			var byteVal = readByte();
+			rawVal |= (byteVal & 0x7F) << shift;
+			if (byteVal >= 0)
+				return (rawVal >>> 1) ^ -(rawVal & 1);
+		}
+
+		throw new IOException("Malformed variable length int.");
+	}
+
+	/**
+	 * Returns the next variable length long. The value is stored as a zigzag encoded LEB128 value and will take
+	 * anywhere from 1 byte to 10 bytes of storage. The value should have been written with the inverse method
+	 * {@link ZoutStream#writeVarLong}.
+	 */
+	public default long readVarLong() throws IOException
+	{
+		// Decode the LEB128 value
+		var rawVal = 0L;
+		for (int shift = 0; shift < 70; shift += 7)
+		{
+			var byteVal = readByte();
+			rawVal |= (byteVal & 0x7FL) << shift;
+			if (byteVal >= 0)
+				return (rawVal >>> 1) ^ -(rawVal & 1);
+		}
+
+		throw new IOException("Malformed variable length long.");
+	}
+
 	/**
 	 * Returns the next float
 	 */
@@ -95,11 +153,109 @@ public interface ZinStream extends AutoCloseable
 	 */
 	public double readDouble() throws IOException;
 
+	/**
+	 * Reads the next length doubles into dstArr, starting at offset.
+	 *
+	 * @throws IOException
+	 *         Will be thrown if not enough data in the stream to fulfill request
+	 */
+	public default void readDoubles(double[] dstArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			dstArr[offset + c1] = readDouble();
+	}
+
+	/**
+	 * Reads the next length floats into dstArr, starting at offset.
+	 *
+	 * @throws IOException
+	 *         Will be thrown if not enough data in the stream to fulfill request
+	 */
+	public default void readFloats(float[] dstArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			dstArr[offset + c1] = readFloat();
+	}
+
+	/**
+	 * Reads the next length ints into dstArr, starting at offset.
+	 *
+	 * @throws IOException
+	 *         Will be thrown if not enough data in the stream to fulfill request
+	 */
+	public default void readInts(int[] dstArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			dstArr[offset + c1] = readInt();
+	}
+
+	/**
+	 * Reads the next length longs into dstArr, starting at offset.
+	 *
+	 * @throws IOException
+	 *         Will be thrown if not enough data in the stream to fulfill request
+	 */
+	public default void readLongs(long[] dstArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			dstArr[offset + c1] = readLong();
+	}
+
 	/**
 	 * Reads an 8-bit UTF-8 string from aStream. First 2 bytes specify length of string.
 	 */
 	public String readString() throws IOException;
 
+	/**
+	 * Reads an 8-bit UTF-8 string from aStream and appends it to the provided {@link StringBuilder}. This allows the
+	 * caller to reuse the same buffer across many reads. The format is the same as that of {@link #readString()}.
+	 *
+	 * @return False if the stored string was null (nothing will be appended).
+	 */
+	public default boolean readString(StringBuilder aStrBuf) throws IOException
+	{
+		var tmpStr = readString();
+		if (tmpStr == null)
+			return false;
+
+		aStrBuf.append(tmpStr);
+		return true;
+	}
+
+	/**
+	 * Reads an 8-bit UTF-8 string (of any length) from aStream. The value should have been written with the inverse
+	 * method {@link ZoutStream#writeChars}.
+	 */
+	public default String readChars() throws IOException
+	{
+		var size = readVarInt();
+		if (size == -1)
+			return null;
+		if (size < 0)
+			throw new IOException("Invalid string size: " + size);
+
+		var dataArr = new byte[size];
+		readFully(dataArr);
+		return new String(dataArr, Charsets.UTF_8);
+	}
+
+	/**
+	 * Reads an 8-bit UTF-8 string (of any length) from aStream and appends it to the provided {@link StringBuilder}.
+	 * The content is decoded incrementally - no intermediate byte array is materialized. The value should have been
+	 * written with the inverse method {@link ZoutStream#writeChars}.
+	 *
+	 * @return False if the stored string was null (nothing will be appended).
+	 */
+	public default boolean readChars(StringBuilder aStrBuf) throws IOException
+	{
+		var tmpStr = readChars();
+		if (tmpStr == null)
+			return false;
+
+		aStrBuf.append(tmpStr);
+		return true;
+	}
+
 	/**
 	 * Method to read in a raw string and validate that it matches the passed in absStr. This method is useful to ensure
 	 * that file headers and the like are are valid. Note the inverse function is {@link ZoutStream#writeRawString}. The
@@ -147,6 +303,19 @@ public interface ZinStream extends AutoCloseable
 	 */
 	public int readVersionAny() throws IOException;
 
+	/**
+	 * Method to move the virtual position of this stream to the specified (absolute) position.
+	 * <p>
+	 * Note that any checksum being computed will be invalidated once this method has been called.
+	 *
+	 * @throws IOException
+	 *         Will be thrown if the position is not valid or if the stream does not support random access.
+	 */
+	public default void seek(long aPos) throws IOException
+	{
+		throw new IOException("Random access is not supported by: " + getClass().getSimpleName());
+	}
+
 	/**
 	 * Method to skip numBytes.
 	 *
@@ -0,0 +1,177 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Class used to deserialize a graph of (heterogeneous) objects that was written via {@link ZioGraphWriter}.
+ * <p>
+ * Back references are resolved to the (shared) object that was previously read.
+ *
+ * @author lopeznr1
+ */
+public class ZioGraphReader
+{
+	// Attributes
+	private final ZinStream refStream;
+	private final ZioRegistry refRegistry;
+
+	// State vars
+	private final List<Object> refL;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aStream
+	 *        The stream where the graph will be read from.
+	 * @param aRegistry
+	 *        The registry used to map type tags to classes and spawners.
+	 */
+	public ZioGraphReader(ZinStream aStream, ZioRegistry aRegistry)
+	{
+		refStream = aStream;
+		refRegistry = aRegistry;
+
+		refL = new ArrayList<>();
+	}
+
+	/** Simplified Constructor */
+	public ZioGraphReader(ZinStream aStream)
+	{
+		this(aStream, ZioRegistry.getDefault());
+	}
+
+	/**
+	 * Returns the number of (unique) objects that have been read.
+	 */
+	public int getNumObjects()
+	{
+		return refL.size();
+	}
+
+	/**
+	 * Returns the underlying stream. Primitive content should be read directly from this stream.
+	 */
+	public ZinStream getStream()
+	{
+		return refStream;
+	}
+
+	/**
+	 * Clears the back reference table. See {@link ZioGraphWriter#reset()}.
+	 */
+	public void reset()
+	{
+		refL.clear();
+	}
+
+	/**
+	 * Reads a list of objects. See {@link ZioGraphWriter#writeList(Collection)}.
+	 */
+	public ArrayList<Object> readList() throws IOException
+	{
+		return readList(Object.class);
+	}
+
+	/**
+	 * Reads a list of objects where all objects are expected to be of the specified type (or a sub type).
+	 */
+	public <G1> ArrayList<G1> readList(Class<G1> aClass) throws IOException
+	{
+		// Read the item count
+		int numItems = refStream.readInt();
+		if (numItems < 0)
+			throw new IOException("Invalid item count: " + numItems);
+
+		// Read the actual objects. Note the initial capacity is capped as the count may be corrupt.
+		ArrayList<G1> retItemL = new ArrayList<>(Math.min(numItems, 1024));
+		for (int c1 = 0; c1 < numItems; c1++)
+			retItemL.add(readObject(aClass));
+
+		return retItemL;
+	}
+
+	/**
+	 * Reads a map of objects. See {@link ZioGraphWriter#writeMap(Map)}.
+	 */
+	public Map<String, Object> readMap() throws IOException
+	{
+		// Read the item count
+		int numItems = refStream.readInt();
+		if (numItems < 0)
+			throw new IOException("Invalid item count: " + numItems);
+
+		// Read the actual key,value pairings
+		Map<String, Object> retItemM = new LinkedHashMap<>();
+		for (int c1 = 0; c1 < numItems; c1++)
+		{
+			String aKey = refStream.readString();
+			retItemM.put(aKey, readObject());
+		}
+
+		return retItemM;
+	}
+
+	/**
+	 * Reads the next object. The returned object may be null or an object that was previously read.
+	 */
+	public Object readObject() throws IOException
+	{
+		var tmpCode = refStream.readVarInt();
+
+		// Null
+		if (tmpCode == 0)
+			return null;
+
+		// Back reference
+		if (tmpCode < 0)
+		{
+			var refIdx = -tmpCode - 1;
+			if (refIdx >= refL.size())
+				throw new IOException("Invalid back reference: " + refIdx + " Num objects: " + refL.size());
+
+			return refL.get(refIdx);
+		}
+
+		// New object
+		var tmpClass = refRegistry.getTagClass(tmpCode);
+		if (tmpClass == null)
+			throw new IOException("Unregistered type tag: " + tmpCode);
+
+		Object retItem;
+		var tmpGraphSpawner = refRegistry.getGraphSpawner(tmpClass);
+		if (tmpGraphSpawner != null)
+			retItem = tmpGraphSpawner.readInstance(this);
+		else
+			retItem = refRegistry.getSpawner(tmpClass).readInstance(refStream);
+
+		refL.add(retItem);
+		return retItem;
+	}
+
+	/**
+	 * Reads the next object which is expected to be of the specified type (or a sub type).
+	 */
+	public <G1> G1 readObject(Class<G1> aClass) throws IOException
+	{
+		var retItem = readObject();
+		if (retItem != null && aClass.isInstance(retItem) == false)
+			throw new IOException("Type mismatch. Expected: " + aClass + " Read: " + retItem.getClass());
+
+		return aClass.cast(retItem);
+	}
+
+}
@@ -0,0 +1,38 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio;
+
+import java.io.IOException;
+
+/**
+ * Interface that defines a mechanism for serialization of items that are part of an object graph.
+ * <p>
+ * Unlike {@link ZioSpawner}, the item's (shared) members may be written via {@link ZioGraphWriter#writeObject(Object)}
+ * and will thus only be serialized once per graph.
+ *
+ * @author lopeznr1
+ */
+public interface ZioGraphSpawner<G1>
+{
+	/**
+	 * Method that returns the appropriate item that is read from the specified {@link ZioGraphReader}.
+	 */
+	public G1 readInstance(ZioGraphReader aReader) throws IOException;
+
+	/**
+	 * Method to serialize the provided item to the specified {@link ZioGraphWriter}.
+	 */
+	public void writeInstance(ZioGraphWriter aWriter, G1 aItem) throws IOException;
+
+}
@@ -0,0 +1,173 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Class used to serialize a graph of (heterogeneous) objects to a {@link ZoutStream}.
+ * <p>
+ * Each object is preceded by the type tag of its class (see {@link ZioRegistry}). Objects that are referenced multiple
+ * times are only serialized once - subsequent references are written as a back reference. Use {@link ZioGraphReader}
+ * (with an equivalent {@link ZioRegistry}) to read the graph back in.
+ * <p>
+ * Objects are serialized via the {@link ZioGraphSpawner} registered for their class. If there is none then the
+ * {@link ZioSpawner} for the class will be utilized. The graph must be acyclic.
+ * <p>
+ * Format: &lt;code:varInt> (&lt;item>)?
+ * <ul>
+ * <li>code == 0: null
+ * <li>code &gt; 0: new object with the type tag of code
+ * <li>code &lt; 0: back reference to the object with the index of (-code - 1)
+ * </ul>
+ * Objects are assigned indexes (starting at 0) in the order that they are completely written.
+ *
+ * @author lopeznr1
+ */
+public class ZioGraphWriter
+{
+	// Attributes
+	private final ZoutStream refStream;
+	private final ZioRegistry refRegistry;
+
+	// State vars
+	private final Map<Object, Integer> refM;
+	private final Set<Object> pendingS;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aStream
+	 *        The stream where the graph will be written.
+	 * @param aRegistry
+	 *        The registry used to map classes to type tags and spawners.
+	 */
+	public ZioGraphWriter(ZoutStream aStream, ZioRegistry aRegistry)
+	{
+		refStream = aStream;
+		refRegistry = aRegistry;
+
+		refM = new IdentityHashMap<>();
+		pendingS = Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	/** Simplified Constructor */
+	public ZioGraphWriter(ZoutStream aStream)
+	{
+		this(aStream, ZioRegistry.getDefault());
+	}
+
+	/**
+	 * Returns the number of (unique) objects that have been written.
+	 */
+	public int getNumObjects()
+	{
+		return refM.size();
+	}
+
+	/**
+	 * Returns the underlying stream. Primitive content should be written directly to this stream.
+	 */
+	public ZoutStream getStream()
+	{
+		return refStream;
+	}
+
+	/**
+	 * Clears the back reference table. Subsequent objects will be written in full. The corresponding
+	 * {@link ZioGraphReader} must be reset at the same point in the stream.
+	 */
+	public void reset()
+	{
+		refM.clear();
+	}
+
+	/**
+	 * Writes a list of objects. The objects may be of different types.
+	 * <p>
+	 * Format: &lt;numItems> (&lt;object>)&ast;
+	 */
+	public void writeList(Collection<?> aItemC) throws IOException
+	{
+		// Write the item count
+		refStream.writeInt(aItemC.size());
+
+		// Write the actual objects
+		for (Object aItem : aItemC)
+			writeObject(aItem);
+	}
+
+	/**
+	 * Writes a map of objects. The objects may be of different types.
+	 * <p>
+	 * Format: &lt;numItems> (&lt;String, object>)&ast;
+	 */
+	public void writeMap(Map<String, ?> aItemM) throws IOException
+	{
+		// Write the item count
+		refStream.writeInt(aItemM.size());
+
+		// Write the actual key,value pairings
+		for (Map.Entry<String, ?> aEntry : aItemM.entrySet())
+		{
+			refStream.writeString(aEntry.getKey());
+			writeObject(aEntry.getValue());
+		}
+	}
+
+	/**
+	 * Writes the specified object. The object may be null. If the object has already been written then only a back
+	 * reference will be written.
+	 */
+	@SuppressWarnings("unchecked")
+	public void writeObject(Object aItem) throws IOException
+	{
+		// Null
+		if (aItem == null)
+		{
+			refStream.writeVarInt(0);
+			return;
+		}
+
+		// Back reference
+		var refIdx = refM.get(aItem);
+		if (refIdx != null)
+		{
+			refStream.writeVarInt(-(refIdx + 1));
+			return;
+		}
+
+		// New object
+		var tmpClass = (Class<Object>) aItem.getClass();
+		var tmpTag = refRegistry.getTag(tmpClass);
+		if (tmpTag == -1)
+			throw new IOException("Unregistered class: " + tmpClass);
+
+		if (pendingS.add(aItem) == false)
+			throw new IOException("Cyclic reference detected for object of type: " + tmpClass);
+
+		refStream.writeVarInt(tmpTag);
+
+		var tmpGraphSpawner = refRegistry.getGraphSpawner(tmpClass);
+		if (tmpGraphSpawner != null)
+			tmpGraphSpawner.writeInstance(this, aItem);
+		else
+			refRegistry.getSpawner(tmpClass).writeInstance(refStream, aItem);
+
+		pendingS.remove(aItem);
+		refM.put(aItem, refM.size());
+	}
+
+}
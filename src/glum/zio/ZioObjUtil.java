@@ -15,6 +15,11 @@ package glum.zio;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.Stream;
+
+import glum.zio.stream.ByteArrayZinStream;
+import glum.zio.stream.ByteArrayZoutStream;
+import glum.zio.util.ZioRawUtil;
 
 /**
  * Collection of utility methods for working with {@link ZioObj} objects.
@@ -26,33 +31,49 @@ public class ZioObjUtil
 	/**
 	 * Utility method to read a list of {@link ZioObj} items. The objects are assumed to be of the same type.
 	 * <p>
+	 * The items are instantiated via the {@link ZioSpawner} registered (or generated) in {@link ZioRegistry#getDefault()}.
+	 * <p>
 	 * Format: &lt;numItems> (&lt;ZioObj>)&ast;
 	 */
 	public static <G1 extends ZioObj> ArrayList<G1> readList(ZinStream aStream, Class<G1> aClass) throws IOException
 	{
+		// Locate the appropriate spawner
+		ZioSpawner<G1> tmpSpawner = ZioRegistry.getDefault().getSpawner(aClass);
+
 		// Read the item count
 		int numItems = aStream.readInt();
+		if (numItems < 0)
+			throw new IOException("Invalid item count: " + numItems);
 
-		// Read the actual objects
-		ArrayList<G1> retItemL = new ArrayList<G1>();
+		// Read the actual objects. Note the initial capacity is capped as the count may be corrupt.
+		ArrayList<G1> retItemL = new ArrayList<G1>(Math.min(numItems, 1024));
 		for (int c1 = 0; c1 < numItems; c1++)
-		{
-			// Serialize the class
-			try
-			{
-				G1 aItem = aClass.getDeclaredConstructor().newInstance();
-				aItem.zioRead(aStream);
-				retItemL.add(aItem);
-			}
-			catch(Exception aException)
-			{
-				throw new IOException("Failed to instantiate: " + aClass, aException);
-			}
-		}
+			retItemL.add(tmpSpawner.readInstance(aStream));
 
 		return retItemL;
 	}
 
+	/**
+	 * Utility method that returns a lazy {@link Iterator} over a list of {@link ZioObj} items. Each item is only read as
+	 * the iterator is advanced. See {@link ZioRawUtil#readRawIterator(ZinStream, ZioSpawner)}.
+	 * <p>
+	 * Format: &lt;numItems> (&lt;ZioObj>)&ast;
+	 */
+	public static <G1 extends ZioObj> Iterator<G1> readIterator(ZinStream aStream, Class<G1> aClass)
+			throws IOException
+	{
+		return ZioRawUtil.readRawIterator(aStream, ZioRegistry.getDefault().getSpawner(aClass));
+	}
+
+	/**
+	 * Utility method that returns a lazy (sequential) {@link Stream} over a list of {@link ZioObj} items. See
+	 * {@link #readIterator(ZinStream, Class)}.
+	 */
+	public static <G1 extends ZioObj> Stream<G1> readStream(ZinStream aStream, Class<G1> aClass) throws IOException
+	{
+		return ZioRawUtil.readRawStream(aStream, ZioRegistry.getDefault().getSpawner(aClass));
+	}
+
 	/**
 	 * Utility method to read a preloaded list of ZioObj items. The passed in list must contain the exact number of items
 	 * as that stored on disk and in the correct order.
@@ -86,6 +107,31 @@ public class ZioObjUtil
 			aItem.zioWrite(aStream);
 	}
 
+	/**
+	 * Utility method to write out a list of ZioObj items provided by an {@link Iterator}. An {@link IOException} will
+	 * be thrown if the iterator does not provide exactly aNumItems items.
+	 * <p>
+	 * Format: &lt;numItems> (&lt;ZioObj>)&ast;
+	 */
+	public static void writeList(ZoutStream aStream, Iterator<? extends ZioObj> aItemIt, int aNumItems)
+			throws IOException
+	{
+		// Write the item count
+		aStream.writeInt(aNumItems);
+
+		// Write the actual objects
+		for (int c1 = 0; c1 < aNumItems; c1++)
+		{
+			if (aItemIt.hasNext() == false)
+				throw new IOException("Iterator provided fewer items than specified: " + c1 + " Expected: " + aNumItems);
+
+			aItemIt.next().zioWrite(aStream);
+		}
+
+		if (aItemIt.hasNext() == true)
+			throw new IOException("Iterator provided more items than specified: " + aNumItems);
+	}
+
 	/**
 	 * Utility method to read a map of binary objects. The ZioObj items are assumed to be of the same type.
 	 * <p>
@@ -163,18 +209,80 @@ public class ZioObjUtil
 	public static <G1 extends ZioObj> G1 read(ZinStream aStream, Class<G1> aClass) throws IOException
 	{
 		// Serialize the class
-		G1 aItem;
-		try
-		{
-			aItem = aClass.getDeclaredConstructor().newInstance();
-			aItem.zioRead(aStream);
-		}
-		catch(Exception aException)
+		return ZioRegistry.getDefault().getSpawner(aClass).readInstance(aStream);
+	}
+
+	/**
+	 * Utility method to read a {@link ZioObj} that was written via {@link #writeFramed(ZoutStream, ZioObj)}. Returns
+	 * null if a null item was written.
+	 * <p>
+	 * The entire frame is consumed from aStream before the item is decoded. Thus any content at the end of the frame
+	 * that is not read by the item (ex: fields appended by a newer writer) is ignored. Furthermore, should the item fail
+	 * to decode (ex: an unsupported version), aStream will still be positioned at the end of the frame.
+	 */
+	public static <G1 extends ZioObj> G1 readFramed(ZinStream aStream, Class<G1> aClass) throws IOException
+	{
+		// Read the frame
+		int numBytes = aStream.readInt();
+		if (numBytes == -1)
+			return null;
+		if (numBytes < 0)
+			throw new IOException("Invalid frame size: " + numBytes);
+
+		byte[] dataArr = new byte[numBytes];
+		aStream.readFully(dataArr);
+
+		// Decode the item from the frame
+		ZinStream tmpStream = new ByteArrayZinStream(dataArr);
+		G1 retItem = ZioRegistry.getDefault().getSpawner(aClass).readInstance(tmpStream);
+		tmpStream.close();
+
+		return retItem;
+	}
+
+	/**
+	 * Utility method to skip over a frame written via {@link #writeFramed(ZoutStream, ZioObj)} without decoding the
+	 * content. Returns the number of content bytes that were skipped.
+	 */
+	public static int skipFramed(ZinStream aStream) throws IOException
+	{
+		int numBytes = aStream.readInt();
+		if (numBytes == -1)
+			return 0;
+		if (numBytes < 0)
+			throw new IOException("Invalid frame size: " + numBytes);
+
+		aStream.skipBytes(numBytes);
+		return numBytes;
+	}
+
+	/**
+	 * Utility method to write a {@link ZioObj} as a length prefixed frame. This allows readers to skip over the item
+	 * without decoding it (see {@link #skipFramed(ZinStream)}) or to read an item written by a newer (appended fields)
+	 * version of the class. The item may be null.
+	 * <p>
+	 * Note the item is serialized to a separate (temporary) stream, thus the content of the frame is self contained and
+	 * does not participate in any stream level mode (ex: string dictionary).
+	 * <p>
+	 * Format: &lt;numBytes:int> &lt;ZioObj> where a numBytes of -1 denotes null.
+	 */
+	public static void writeFramed(ZoutStream aStream, ZioObj aItem) throws IOException
+	{
+		if (aItem == null)
 		{
-			throw new IOException("Failed to instantiate: " + aClass, aException);
+			aStream.writeInt(-1);
+			return;
 		}
 
-		return aItem;
+		// Serialize the item to a (temporary) stream
+		ByteArrayZoutStream tmpStream = new ByteArrayZoutStream(256);
+		aItem.zioWrite(tmpStream);
+		tmpStream.close();
+
+		// Write the frame
+		byte[] dataArr = tmpStream.toByteArray();
+		aStream.writeInt(dataArr.length);
+		aStream.writeFully(dataArr);
 	}
 
 	public static <G1 extends ZioObj> G1 readNullable(ZinStream aStream, Class<G1> aClass) throws IOException
@@ -184,18 +292,7 @@ public class ZioObjUtil
 			return null;
 
 		// Serialize the class
-		G1 aItem;
-		try
-		{
-			aItem = aClass.getDeclaredConstructor().newInstance();
-			aItem.zioRead(aStream);
-		}
-		catch(Exception aException)
-		{
-			throw new IOException("Failed to instantiate: " + aClass, aException);
-		}
-
-		return aItem;
+		return ZioRegistry.getDefault().getSpawner(aClass).readInstance(aStream);
 	}
 
 	public static void writeNullable(ZoutStream aStream, ZioObj aItem) throws IOException
@@ -0,0 +1,355 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio;
+
+import java.io.IOException;
+import java.lang.invoke.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry that maps classes (and optionally compact type tags) to {@link ZioSpawner}s.
+ * <p>
+ * Spawners may be registered explicitly. Otherwise a spawner will be generated (on first request) for classes that
+ * define one of the following:
+ * <ul>
+ * <li>A public no-arg constructor. The class must implement {@link ZioObj}. The object's state is then read via
+ * {@link ZioObj#zioRead(ZinStream)}.
+ * <li>A public constructor that takes a single argument - a {@link ZinStream}. See {@link ZioRaw}.
+ * </ul>
+ * The no-arg constructor is utilized for all {@link ZioObj}s (that are not also a {@link ZioRaw}) - consistent with
+ * {@link ZioObjUtil#read(ZinStream, Class)}. The {@link ZinStream} constructor is utilized for all other classes.
+ * Generated spawners instantiate
+ * objects via a {@link LambdaMetafactory} generated factory rather than via reflection. Thus the cost of deserializing
+ * large lists of (small) objects is comparable to that of direct constructor calls.
+ * <p>
+ * Type tags are small positive integers that (compactly) identify a class in a stream. See
+ * {@link #writeTagged(ZoutStream, Object)}.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author lopeznr1
+ */
+public class ZioRegistry
+{
+	// Constants
+	private static final ZioRegistry Default = new ZioRegistry();
+
+	// State vars
+	private final Map<Class<?>, ZioSpawner<?>> spawnerM;
+	private final Map<Class<?>, ZioGraphSpawner<?>> graphSpawnerM;
+	private final Map<Class<?>, Integer> tagM;
+	private final Map<Integer, Class<?>> classM;
+
+	/** Standard Constructor */
+	public ZioRegistry()
+	{
+		spawnerM = new ConcurrentHashMap<>();
+		graphSpawnerM = new ConcurrentHashMap<>();
+		tagM = new HashMap<>();
+		classM = new HashMap<>();
+	}
+
+	/**
+	 * Returns the (global) default registry. This is the registry utilized by {@link ZioObjUtil} and
+	 * {@link glum.zio.util.ZioRawUtil}.
+	 */
+	public static ZioRegistry getDefault()
+	{
+		return Default;
+	}
+
+	/**
+	 * Returns the {@link ZioGraphSpawner} associated with the specified class. Returns null if none has been registered.
+	 */
+	@SuppressWarnings("unchecked")
+	public <G1> ZioGraphSpawner<G1> getGraphSpawner(Class<G1> aClass)
+	{
+		return (ZioGraphSpawner<G1>) graphSpawnerM.get(aClass);
+	}
+
+	/**
+	 * Returns the {@link ZioSpawner} associated with the specified class. If no spawner has been registered then one
+	 * will be generated (and registered).
+	 *
+	 * @throws IOException
+	 *         if the class does not define an appropriate constructor.
+	 */
+	@SuppressWarnings("unchecked")
+	public <G1> ZioSpawner<G1> getSpawner(Class<G1> aClass) throws IOException
+	{
+		var retSpawner = (ZioSpawner<G1>) spawnerM.get(aClass);
+		if (retSpawner != null)
+			return retSpawner;
+
+		retSpawner = formSpawner(aClass);
+		var prevSpawner = (ZioSpawner<G1>) spawnerM.putIfAbsent(aClass, retSpawner);
+		if (prevSpawner != null)
+			return prevSpawner;
+
+		return retSpawner;
+	}
+
+	/**
+	 * Returns the type tag associated with the specified class. Returns -1 if no tag has been registered.
+	 */
+	public synchronized int getTag(Class<?> aClass)
+	{
+		var retTag = tagM.get(aClass);
+		if (retTag == null)
+			return -1;
+
+		return retTag;
+	}
+
+	/**
+	 * Returns the class associated with the specified type tag. Returns null if no class has been registered.
+	 */
+	public synchronized Class<?> getTagClass(int aTag)
+	{
+		return classM.get(aTag);
+	}
+
+	/**
+	 * Registers the {@link ZioSpawner} to be utilized for the specified class. Any prior spawner will be replaced.
+	 */
+	public <G1> void register(Class<G1> aClass, ZioSpawner<G1> aSpawner)
+	{
+		spawnerM.put(aClass, aSpawner);
+	}
+
+	/**
+	 * Registers the specified class with the provided type tag.
+	 *
+	 * @param aClass
+	 *        The class to be registered.
+	 * @param aTag
+	 *        The type tag. Must be positive and may not be associated with any other class.
+	 * @param aSpawner
+	 *        The {@link ZioSpawner} to be utilized for the class. If null then a spawner will be generated on first
+	 *        request.
+	 */
+	public synchronized <G1> void register(Class<G1> aClass, int aTag, ZioSpawner<G1> aSpawner)
+	{
+		if (aTag <= 0)
+			throw new IllegalArgumentException("Type tag must be positive. Tag: " + aTag);
+
+		var prevClass = classM.get(aTag);
+		if (prevClass != null && prevClass != aClass)
+			throw new IllegalArgumentException("Type tag: " + aTag + " is already registered to: " + prevClass);
+
+		var prevTag = tagM.get(aClass);
+		if (prevTag != null && prevTag != aTag)
+			throw new IllegalArgumentException("Class: " + aClass + " is already registered with tag: " + prevTag);
+
+		tagM.put(aClass, aTag);
+		classM.put(aTag, aClass);
+
+		if (aSpawner != null)
+			register(aClass, aSpawner);
+	}
+
+	/**
+	 * Registers the specified class with the provided type tag and {@link ZioGraphSpawner}. The graph spawner will be
+	 * utilized (in preference to any {@link ZioSpawner}) by {@link ZioGraphWriter} and {@link ZioGraphReader}.
+	 *
+	 * @param aClass
+	 *        The class to be registered.
+	 * @param aTag
+	 *        The type tag. See {@link #register(Class, int, ZioSpawner)}.
+	 * @param aGraphSpawner
+	 *        The {@link ZioGraphSpawner} to be utilized for the class.
+	 */
+	public synchronized <G1> void registerGraph(Class<G1> aClass, int aTag, ZioGraphSpawner<G1> aGraphSpawner)
+	{
+		register(aClass, aTag, null);
+		graphSpawnerM.put(aClass, aGraphSpawner);
+	}
+
+	/**
+	 * Reads an item (written via {@link #writeTagged(ZoutStream, Object)}) from the specified stream.
+	 * <p>
+	 * Format: &lt;tag:varInt> (&lt;item>)?
+	 */
+	public Object readTagged(ZinStream aStream) throws IOException
+	{
+		var tmpTag = aStream.readVarInt();
+		if (tmpTag == 0)
+			return null;
+
+		var tmpClass = getTagClass(tmpTag);
+		if (tmpClass == null)
+			throw new IOException("Unregistered type tag: " + tmpTag);
+
+		return getSpawner(tmpClass).readInstance(aStream);
+	}
+
+	/**
+	 * Writes the specified item (preceded by the type tag of its class) to the stream. The item may be null.
+	 * <p>
+	 * Format: &lt;tag:varInt> (&lt;item>)?
+	 */
+	@SuppressWarnings("unchecked")
+	public void writeTagged(ZoutStream aStream, Object aItem) throws IOException
+	{
+		if (aItem == null)
+		{
+			aStream.writeVarInt(0);
+			return;
+		}
+
+		var tmpClass = (Class<Object>) aItem.getClass();
+		var tmpTag = getTag(tmpClass);
+		if (tmpTag == -1)
+			throw new IOException("Unregistered class: " + tmpClass);
+
+		aStream.writeVarInt(tmpTag);
+		getSpawner(tmpClass).writeInstance(aStream, aItem);
+	}
+
+	/**
+	 * Helper method that forms a {@link ZioSpawner} for the specified class.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static <G1> ZioSpawner<G1> formSpawner(Class<G1> aClass) throws IOException
+	{
+		var tmpLookup = MethodHandles.lookup();
+
+		// Utilize the constructor that takes a ZinStream for everything except (pure) ZioObjs
+		MethodHandle tmpHandle;
+		var isZioObj = ZioObj.class.isAssignableFrom(aClass) == true && ZioRaw.class.isAssignableFrom(aClass) == false;
+		if (isZioObj == false)
+		{
+			try
+			{
+				tmpHandle = tmpLookup.findConstructor(aClass, MethodType.methodType(void.class, ZinStream.class));
+			}
+			catch (NoSuchMethodException | IllegalAccessException aExp)
+			{
+				throw new IOException("Failed to locate a proper constructor for: " + aClass + ". Constructor requires " //
+						+ "a single argument - ZinStream", aExp);
+			}
+
+			var tmpFactory = (RawFactory<G1>) formFactory(tmpLookup, tmpHandle, RawFactory.class, aClass);
+			return new RawSpawner<>(tmpFactory);
+		}
+
+		// Utilize the no-arg constructor (ZioObj)
+		try
+		{
+			tmpHandle = tmpLookup.findConstructor(aClass, MethodType.methodType(void.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException aExp)
+		{
+			throw new IOException("Failed to locate a proper constructor for: " + aClass + ". Constructor requires " //
+					+ "no arguments.", aExp);
+		}
+
+		var tmpFactory = (Supplier) formFactory(tmpLookup, tmpHandle, Supplier.class, aClass);
+		return new ObjSpawner(tmpFactory);
+	}
+
+	/**
+	 * Helper method that generates an instance of the specified (functional) interface that delegates to the provided
+	 * constructor handle.
+	 */
+	private static Object formFactory(MethodHandles.Lookup aLookup, MethodHandle aHandle, Class<?> aFactoryClass,
+			Class<?> aClass) throws IOException
+	{
+		var tmpName = aFactoryClass == Supplier.class ? "get" : "create";
+		var tmpType = aHandle.type();
+		try
+		{
+			var tmpCallSite = LambdaMetafactory.metafactory(aLookup, tmpName, MethodType.methodType(aFactoryClass),
+					tmpType.changeReturnType(Object.class), aHandle, tmpType.changeReturnType(aClass));
+			return tmpCallSite.getTarget().invoke();
+		}
+		catch (Throwable aExp)
+		{
+			throw new IOException("Failed to form a factory for: " + aClass, aExp);
+		}
+	}
+
+	/**
+	 * Functional interface used to instantiate an object from a {@link ZinStream}.
+	 */
+	private interface RawFactory<G1>
+	{
+		public G1 create(ZinStream aStream) throws IOException;
+	}
+
+	/**
+	 * {@link ZioSpawner} for objects that are deserialized via a constructor that takes a {@link ZinStream}.
+	 */
+	private static class RawSpawner<G1> implements ZioSpawner<G1>
+	{
+		// Attributes
+		private final RawFactory<G1> refFactory;
+
+		/** Standard Constructor */
+		public RawSpawner(RawFactory<G1> aFactory)
+		{
+			refFactory = aFactory;
+		}
+
+		@Override
+		public G1 readInstance(ZinStream aStream) throws IOException
+		{
+			return refFactory.create(aStream);
+		}
+
+		@Override
+		public void writeInstance(ZoutStream aStream, G1 aItem) throws IOException
+		{
+			if (aItem instanceof ZioRaw aZioRaw)
+				aZioRaw.zioWrite(aStream);
+			else if (aItem instanceof ZioObj aZioObj)
+				aZioObj.zioWrite(aStream);
+			else
+				throw new IOException("Unsupported operation. Item is not serializable: " + aItem.getClass());
+		}
+	}
+
+	/**
+	 * {@link ZioSpawner} for {@link ZioObj}s that are deserialized via a no-arg constructor.
+	 */
+	private static class ObjSpawner<G1 extends ZioObj> implements ZioSpawner<G1>
+	{
+		// Attributes
+		private final Supplier<G1> refFactory;
+
+		/** Standard Constructor */
+		public ObjSpawner(Supplier<G1> aFactory)
+		{
+			refFactory = aFactory;
+		}
+
+		@Override
+		public G1 readInstance(ZinStream aStream) throws IOException
+		{
+			var retItem = refFactory.get();
+			retItem.zioRead(aStream);
+			return retItem;
+		}
+
+		@Override
+		public void writeInstance(ZoutStream aStream, G1 aItem) throws IOException
+		{
+			aItem.zioWrite(aStream);
+		}
+	}
+
+}
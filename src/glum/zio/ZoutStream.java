@@ -15,6 +15,10 @@ package glum.zio;
 
 import java.io.IOException;
 
+import com.google.common.base.Charsets;
+
+import glum.digest.Digest;
+
 /**
  * Interface that defines methods used to serialize data using the glum.zio framework.
  *
@@ -36,6 +40,18 @@ public interface ZoutStream extends AutoCloseable
 	 */
 	public String getCheckSum() throws IOException;
 
+	/**
+	 * Returns the checksum (as a {@link Digest}) of the stream.
+	 * <p>
+	 * See {@link #getCheckSum()} for the semantics associated with a live stream.
+	 * <p>
+	 * The default implementation returns null (the digest is not available).
+	 */
+	public default Digest getDigest() throws IOException
+	{
+		return null;
+	}
+
 	/**
 	 * Returns the virtual position of this stream.
 	 *
@@ -79,6 +95,50 @@ public interface ZoutStream extends AutoCloseable
 	 */
 	public void writeShort(short aShort) throws IOException;
 
+	/**
+	 * Outputs the next int as a variable length value. The value is zigzag encoded and then stored as a LEB128 value.
+	 * Values in the range of [-64, 63] take 1 byte while the largest magnitudes take 5 bytes. To properly read the
+	 * value, use the inverse function {@link ZinStream#readVarInt}.
+	 * <p>
+	 * Note the encoding is not compatible with {@link #writeInt}. Objects that switch to this encoding should record a
+	 * new version via {@link #writeVersion}.
+	 */
+	public default void writeVarInt(int aInt) throws IOException
+	{
+		// Zigzag encode the value
+		var rawVal = (aInt << 1) ^ (aInt >> 31);
+
+		// Write it out as a LEB128 value
+		while ((rawVal & ~0x7F) != 0)
+		{
+			writeByte((byte) ((rawVal & 0x7F) | 0x80));
+			rawVal >>>= 7;
+		}
+		writeByte((byte) rawVal);
+	}
+
+	/**
+	 * Outputs the next long as a variable length value. The value is zigzag encoded and then stored as a LEB128 value.
+	 * Values in the range of [-64, 63] take 1 byte while the largest magnitudes take 10 bytes. To properly read the
+	 * value, use the inverse function {@link ZinStream#readVarLong}.
+	 * <p>
+	 * Note the encoding is not compatible with {@link #writeLong}. Objects that switch to this encoding should record a
+	 * new version via {@link #writeVersion}.
+	 */
+	public default void writeVarLong(long aLong) throws IOException
+	{
+		// Zigzag encode the value
+		var rawVal = (aLong << 1) ^ (aLong >> 63);
+
+		// Write it out as a LEB128 value
+		while ((rawVal & ~0x7FL) != 0)
+		{
+			writeByte((byte) ((rawVal & 0x7F) | 0x80));
+			rawVal >>>= 7;
+		}
+		writeByte((byte) rawVal);
+	}
+
 	/**
 	 * Outputs the next float
 	 */
@@ -89,11 +149,70 @@ public interface ZoutStream extends AutoCloseable
 	 */
 	public void writeDouble(double aDouble) throws IOException;
 
+	/**
+	 * Outputs length doubles from srcArr, starting at offset.
+	 */
+	public default void writeDoubles(double[] srcArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			writeDouble(srcArr[offset + c1]);
+	}
+
+	/**
+	 * Outputs length floats from srcArr, starting at offset.
+	 */
+	public default void writeFloats(float[] srcArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			writeFloat(srcArr[offset + c1]);
+	}
+
+	/**
+	 * Outputs length ints from srcArr, starting at offset.
+	 */
+	public default void writeInts(int[] srcArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			writeInt(srcArr[offset + c1]);
+	}
+
+	/**
+	 * Outputs length longs from srcArr, starting at offset.
+	 */
+	public default void writeLongs(long[] srcArr, int offset, int length) throws IOException
+	{
+		for (int c1 = 0; c1 < length; c1++)
+			writeLong(srcArr[offset + c1]);
+	}
+
 	/**
 	 * Writes an 8-bit UTF string to aStream. First 2 bytes specify length of string.
 	 */
 	public void writeString(String aStr) throws IOException;
 
+	/**
+	 * Writes the character sequence as an 8-bit UTF string to aStream. Unlike {@link #writeString}, the length is not
+	 * limited to 64 KB and the characters are encoded directly to the stream (no intermediate byte array).
+	 * <p>
+	 * Format: &lt;numBytes:varInt> (&lt;UTF-8 bytes>)? where a numBytes of -1 denotes null.
+	 * <p>
+	 * Note the encoding is not compatible with {@link #writeString}. To properly read the value, use the inverse
+	 * function {@link ZinStream#readChars}.
+	 */
+	public default void writeChars(CharSequence aCharSeq) throws IOException
+	{
+		// Null strings are handled in special fashion
+		if (aCharSeq == null)
+		{
+			writeVarInt(-1);
+			return;
+		}
+
+		var dataArr = aCharSeq.toString().getBytes(Charsets.UTF_8);
+		writeVarInt(dataArr.length);
+		writeFully(dataArr);
+	}
+
 	/**
 	 * Utility method to write out a raw string. Note the inverse function is {@link ZinStream#readRawStringAndValidate}.
 	 * The string will be interpreted as a US-ASCII string.
@@ -0,0 +1,211 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.*;
+
+import glum.digest.DigestType;
+import glum.zio.ZoutStream;
+
+/**
+ * Implementation of {@link ZoutStream} backed by a file where the actual (disk) writes are performed asynchronously.
+ * <p>
+ * Two (direct) buffers are utilized. While the caller fills one buffer, the other buffer is drained to the file by a
+ * background writer thread. This allows CPU bound serialization to overlap with disk I/O.
+ * <p>
+ * Any error that occurs on the writer thread will be raised (as an {@link IOException}) on the next call that needs
+ * to swap buffers or on {@link #close()}. Once an error has occurred, the stream is no longer usable - though
+ * {@link #close()} will still release the file and the writer thread.
+ *
+ * @author lopeznr1
+ */
+public class AsyncFileZoutStream extends BaseZoutStream
+{
+	// Stream vars
+	private FileChannel fileCh;
+	private ExecutorService writeExecutor;
+	private ByteBuffer spareBuffer;
+	private Future<?> pendingWriteF;
+	private IOException writeExp;
+	private long submitPos;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aFile
+	 *        The file to be written.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is written. A value of null implies no checksum.
+	 */
+	public AsyncFileZoutStream(File aFile, DigestType aDigestType) throws IOException
+	{
+		super(aDigestType, true);
+
+		// Set up the stream vars
+		fileCh = new FileOutputStream(aFile).getChannel();
+		writeExecutor = Executors.newSingleThreadExecutor(aRunnable -> {
+			var tmpThread = new Thread(aRunnable, "AsyncFileZoutStream: " + aFile.getName());
+			tmpThread.setDaemon(true);
+			return tmpThread;
+		});
+		spareBuffer = ByteBuffer.allocateDirect(workBuffer.capacity());
+		pendingWriteF = null;
+		writeExp = null;
+		submitPos = 0;
+	}
+
+	/** Simplified Constructor */
+	public AsyncFileZoutStream(File aFile, boolean aComputeCheckSum) throws IOException
+	{
+		this(aFile, aComputeCheckSum == true ? DigestType.MD5 : null);
+	}
+
+	/** Simplified Constructor */
+	public AsyncFileZoutStream(File aFile) throws IOException
+	{
+		this(aFile, false);
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return submitPos + workBuffer.position();
+	}
+
+	@Override
+	protected void emptyWorkBuffer() throws IOException
+	{
+		// Wait for the prior write to complete so that the spare buffer is available
+		waitForPendingWrite();
+
+		// Bail if there is nothing to write
+		var numBytes = workBuffer.position();
+		if (numBytes == 0)
+			return;
+
+		// Update the digest and reset the workBuffer. Note the content of the workBuffer is not affected.
+		workBuffer.flip();
+		clearWorkBuffer();
+
+		// Swap the buffers - the (full) workBuffer will be drained while the spareBuffer is filled
+		var fullBuffer = workBuffer;
+		fullBuffer.limit(numBytes);
+
+		workBuffer = spareBuffer;
+		workBuffer.clear();
+		spareBuffer = fullBuffer;
+
+		// Submit the (full) buffer to be written
+		submitPos += numBytes;
+		pendingWriteF = writeExecutor.submit(() -> {
+			while (fullBuffer.remaining() > 0)
+				fileCh.write(fullBuffer);
+			return null;
+		});
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			super.close();
+		}
+		finally
+		{
+			// Ensure the writer thread and file are released even if a (prior) write failed
+			releaseWriteVars();
+		}
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		try
+		{
+			waitForPendingWrite();
+		}
+		finally
+		{
+			releaseWriteVars();
+		}
+	}
+
+	/**
+	 * Helper method that shuts down the writer thread and closes the file. Subsequent calls will have no effect.
+	 */
+	private void releaseWriteVars() throws IOException
+	{
+		// Bail if already released
+		if (writeExecutor == null)
+			return;
+
+		writeExecutor.shutdown();
+		var tmpFileCh = fileCh;
+
+		fileCh = null;
+		writeExecutor = null;
+		spareBuffer = null;
+
+		tmpFileCh.close();
+	}
+
+	/**
+	 * Helper method that blocks until the pending write (if any) has completed. If the write (or any prior write)
+	 * failed then an {@link IOException} will be thrown.
+	 */
+	private void waitForPendingWrite() throws IOException
+	{
+		// Any prior failure is fatal
+		if (writeExp != null)
+			throw writeExp;
+
+		// Bail if there is no pending write
+		if (pendingWriteF == null)
+			return;
+
+		try
+		{
+			pendingWriteF.get();
+		}
+		catch (ExecutionException aExp)
+		{
+			var tmpCause = aExp.getCause();
+			if (tmpCause instanceof IOException aIOExp)
+				writeExp = aIOExp;
+			else
+				writeExp = new IOException("Failed to write buffer to stream.", tmpCause);
+			throw writeExp;
+		}
+		catch (InterruptedException aExp)
+		{
+			writeExp = new InterruptedIOException("Interrupted while waiting for buffer to be written.");
+			writeExp.initCause(aExp);
+			Thread.currentThread().interrupt();
+			throw writeExp;
+		}
+		finally
+		{
+			pendingWriteF = null;
+		}
+	}
+
+}
@@ -14,15 +14,17 @@
 package glum.zio.stream;
 
 import java.io.IOException;
-import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import com.google.common.base.Charsets;
-import com.google.common.base.Strings;
 
+import glum.digest.*;
 import glum.util.WallTimer;
 import glum.zio.ZinStream;
 import glum.zio.util.ZioUtil;
@@ -36,68 +38,93 @@ public abstract class BaseZinStream implements ZinStream
 {
 	// Work vars
 	protected ByteBuffer workBuffer;
+	private DirectBufferPool bufferPool;
+	private ByteBuffer pooledBuffer;
 
 	// Stat vars
 	private WallTimer wallTimer;
-	private MessageDigest digest;
-	private String checkSumStr;
+	private DigestType digestType;
+	private DigestTracker digestTracker;
+	private Digest checkSum;
 	protected int digestPos;
 
+	// String dictionary vars
+	private List<String> strDictL;
+	private int strDictCap;
+
+	// String decode vars
+	private byte[] scratchArr;
+	private CharsetDecoder decoder;
+	private CharBuffer charBuf;
+
 	/**
-	 * @param computeCheckSum
-	 *        True if a checksum (md5sum) is desired to be computed as the stream is written
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
 	 * @param streamSizeHint
 	 *        A hint which indicates the final size of the source stream. This hint will be used to determine if a direct
 	 *        buffer should be allocated. If the hint size is greater than 25 MB then a direct buffer will be allocated.
 	 *        A value of 0 implies that a direct buffer should not be allocated.
 	 */
-	public BaseZinStream(boolean computeCheckSum, long streamSizeHint) throws IOException
+	public BaseZinStream(DigestType aDigestType, long streamSizeHint) throws IOException
+	{
+		this(ZioStreamOptions.Default.withDigestType(aDigestType), streamSizeHint);
+	}
+
+	/**
+	 * @param aOptions
+	 *        The options that define the checksum and the work buffer of this stream.
+	 * @param streamSizeHint
+	 *        A hint which indicates the final size of the source stream. This hint is only utilized if the buffer type
+	 *        is {@link ZioStreamOptions.BufferType#Auto}. See {@link #BaseZinStream(DigestType, long)}.
+	 */
+	public BaseZinStream(ZioStreamOptions aOptions, long streamSizeHint) throws IOException
 	{
+		var aDigestType = aOptions.getDigestType();
+
 		// Allocate the stat vars
 		wallTimer = new WallTimer(true);
-		digest = null;
-		checkSumStr = null;
+		digestType = aDigestType;
+		digestTracker = null;
+		checkSum = null;
 		digestPos = -1;
-		if (computeCheckSum == true)
+		if (aDigestType != null)
 		{
-			try
-			{
-				digest = MessageDigest.getInstance("MD5");
-				digestPos = 0;
-			}
-			catch (NoSuchAlgorithmException aExp)
-			{
-				throw new IOException("Unreconized Algorithm", aExp);
-			}
+			digestTracker = new DigestTracker(aDigestType);
+			digestPos = 0;
 		}
 
 		// Allocate the work vars
-		allocateWorkVars(streamSizeHint);
+		allocateWorkVars(aOptions, streamSizeHint);
+	}
+
+	/**
+	 * @param computeCheckSum
+	 *        True if a checksum (md5sum) is desired to be computed as the stream is read
+	 * @param streamSizeHint
+	 *        A hint which indicates the final size of the source stream. See {@link #BaseZinStream(DigestType, long)}.
+	 */
+	public BaseZinStream(boolean computeCheckSum, long streamSizeHint) throws IOException
+	{
+		this(computeCheckSum == true ? DigestType.MD5 : null, streamSizeHint);
 	}
 
 	/**
 	 * @param aWorkBuffer
 	 *        This ByteBuffer will be used as the workBuffer. No workBuffer will be allocated for this BaseZinStream.
-	 * @param computeCheckSum
-	 *        True if a checksum (md5sum) is desired to be computed as the stream is written
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
 	 */
-	public BaseZinStream(ByteBuffer aWorkBuffer, boolean computeCheckSum) throws IOException
+	public BaseZinStream(ByteBuffer aWorkBuffer, DigestType aDigestType) throws IOException
 	{
 		// Allocate the stat vars
 		wallTimer = new WallTimer(true);
-		digest = null;
-		checkSumStr = null;
-		if (computeCheckSum == true)
+		digestType = aDigestType;
+		digestTracker = null;
+		checkSum = null;
+		if (aDigestType != null)
 		{
-			try
-			{
-				digest = MessageDigest.getInstance("MD5");
-				digestPos = 0;
-			}
-			catch (NoSuchAlgorithmException aExp)
-			{
-				throw new IOException("Unreconized Algorithm", aExp);
-			}
+			digestTracker = new DigestTracker(aDigestType);
+			digestPos = 0;
 		}
 
 		// Allocate the work vars
@@ -106,6 +133,92 @@ public abstract class BaseZinStream implements ZinStream
 			throw new NullPointerException();
 	}
 
+	/**
+	 * @param aWorkBuffer
+	 *        This ByteBuffer will be used as the workBuffer. No workBuffer will be allocated for this BaseZinStream.
+	 * @param computeCheckSum
+	 *        True if a checksum (md5sum) is desired to be computed as the stream is read
+	 */
+	public BaseZinStream(ByteBuffer aWorkBuffer, boolean computeCheckSum) throws IOException
+	{
+		this(aWorkBuffer, computeCheckSum == true ? DigestType.MD5 : null);
+	}
+
+	/**
+	 * Returns the type of checksum being computed. Returns null if no checksum is being computed.
+	 */
+	public DigestType getDigestType()
+	{
+		return digestType;
+	}
+
+	/**
+	 * Returns the list of segments (and their digests) that have been completed. Segment tracking must first be
+	 * enabled via {@link #enableSegments(long)}.
+	 * <p>
+	 * Once the stream is closed the last (partial) segment will be included.
+	 */
+	public List<DigestSegment> getSegmentList()
+	{
+		if (digestTracker == null)
+			return List.of();
+
+		return digestTracker.getSegmentList();
+	}
+
+	/**
+	 * Enables the tracking of per segment digests. This allows a corrupted region of a stream to be located without
+	 * having to reread the entire stream. The first segment will start at the current position.
+	 *
+	 * @param aSegmentSize
+	 *        The number of bytes in each segment. A value of 0 implies that segments will only be delimited via
+	 *        {@link #markSegment()}.
+	 * @throws IllegalStateException
+	 *         If a checksum is not being computed.
+	 */
+	public void enableSegments(long aSegmentSize) throws IOException
+	{
+		if (digestTracker == null)
+			throw new IllegalStateException("A checksum is not being computed.");
+
+		updateDigest();
+		digestTracker.enableSegments(aSegmentSize);
+	}
+
+	/**
+	 * Enables the string dictionary mode. Strings that are read are retained in the dictionary, and subsequent reads of
+	 * the same string will return the same (shared) instance. See {@link BaseZoutStream#enableStringDictionary(int)}.
+	 *
+	 * @param aMaxSize
+	 *        The max number of strings that will be stored in the dictionary. This must match the value utilized when
+	 *        the stream was written.
+	 */
+	public void enableStringDictionary(int aMaxSize)
+	{
+		if (aMaxSize < 1)
+			throw new IllegalArgumentException("Dictionary size must be at least 1. Requested: " + aMaxSize);
+		if (strDictL != null)
+			throw new IllegalStateException("The string dictionary has already been enabled.");
+
+		strDictL = new ArrayList<>();
+		strDictCap = aMaxSize;
+	}
+
+	/**
+	 * Marks the end of the current segment at the current position. A typical usage would be to call this method after
+	 * each top level object has been read.
+	 * <p>
+	 * Nothing will be recorded if segment tracking is not enabled or if the current segment is empty.
+	 */
+	public void markSegment() throws IOException
+	{
+		if (digestTracker == null)
+			return;
+
+		updateDigest();
+		digestTracker.markSegment();
+	}
+
 	/**
 	 * Returns the length of time (in milliseconds) this stream has been open
 	 */
@@ -124,32 +237,48 @@ public abstract class BaseZinStream implements ZinStream
 		// Stop the timer
 		wallTimer.stop();
 
-		// Force the checksum to be computed
-		getCheckSum();
+		// Force the checksum (and last segment) to be computed
+		markSegment();
+		getDigest();
 
 		// Release the work and digest vars
 		workBuffer = null;
-		digest = null;
 		digestPos = -1;
 
 		// Release the stream vars
 		releaseStreamVars();
+
+		// Return the (pooled) work buffer
+		if (pooledBuffer != null)
+		{
+			bufferPool.release(pooledBuffer);
+			pooledBuffer = null;
+		}
 	}
 
 	@Override
 	public String getCheckSum() throws IOException
+	{
+		var tmpDigest = getDigest();
+		if (tmpDigest == null)
+			return null;
+
+		return tmpDigest.getValueAsString();
+	}
+
+	@Override
+	public Digest getDigest() throws IOException
 	{
 		// If the stream is dead then just return the previously computed checksum
-		if (workBuffer == null || digest == null)
-			return checkSumStr;
+		if (workBuffer == null || digestTracker == null)
+			return checkSum;
 
-		// We are on a live stream, and need to (re)evaluate the digest
+		// We are on a live stream, and need to (re)evaluate the digest. Note the digest state is not reset.
 		updateDigest();
 
 		// Transform the digest into a checksum
-		checkSumStr = new BigInteger(1, digest.digest()).toString(16);
-		checkSumStr = Strings.padStart(checkSumStr, 32, '0');
-		return checkSumStr;
+		checkSum = digestTracker.getDigest();
+		return checkSum;
 	}
 
 	@Override
@@ -219,6 +348,38 @@ public abstract class BaseZinStream implements ZinStream
 		return workBuffer.getShort();
 	}
 
+	@Override
+	public int readVarInt() throws IOException
+	{
+		// Decode the LEB128 value
+		var rawVal = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			var byteVal = readByte();
+			rawVal |= (byteVal & 0x7F) << shift;
+			if (byteVal >= 0)
+				return (rawVal >>> 1) ^ -(rawVal & 1);
+		}
+
+		throw new IOException("Malformed variable length int.");
+	}
+
+	@Override
+	public long readVarLong() throws IOException
+	{
+		// Decode the LEB128 value
+		var rawVal = 0L;
+		for (int shift = 0; shift < 70; shift += 7)
+		{
+			var byteVal = readByte();
+			rawVal |= (byteVal & 0x7FL) << shift;
+			if (byteVal >= 0)
+				return (rawVal >>> 1) ^ -(rawVal & 1);
+		}
+
+		throw new IOException("Malformed variable length long.");
+	}
+
 	@Override
 	public float readFloat() throws IOException
 	{
@@ -239,21 +400,147 @@ public abstract class BaseZinStream implements ZinStream
 		return workBuffer.getDouble();
 	}
 
+	@Override
+	public void readDoubles(double[] dstArr, int offset, int length) throws IOException
+	{
+		var numRead = 0;
+		while (numRead < length)
+		{
+			// Ensure there is enough data in workBuffer
+			if (workBuffer.remaining() < 8)
+				refreshWorkBuffer();
+
+			// Bulk transfer as many values as are available in workBuffer
+			var numToRead = Math.min(workBuffer.remaining() / 8, length - numRead);
+			workBuffer.asDoubleBuffer().get(dstArr, offset + numRead, numToRead);
+			workBuffer.position(workBuffer.position() + numToRead * 8);
+			numRead += numToRead;
+		}
+	}
+
+	@Override
+	public void readFloats(float[] dstArr, int offset, int length) throws IOException
+	{
+		var numRead = 0;
+		while (numRead < length)
+		{
+			// Ensure there is enough data in workBuffer
+			if (workBuffer.remaining() < 4)
+				refreshWorkBuffer();
+
+			// Bulk transfer as many values as are available in workBuffer
+			var numToRead = Math.min(workBuffer.remaining() / 4, length - numRead);
+			workBuffer.asFloatBuffer().get(dstArr, offset + numRead, numToRead);
+			workBuffer.position(workBuffer.position() + numToRead * 4);
+			numRead += numToRead;
+		}
+	}
+
+	@Override
+	public void readInts(int[] dstArr, int offset, int length) throws IOException
+	{
+		var numRead = 0;
+		while (numRead < length)
+		{
+			// Ensure there is enough data in workBuffer
+			if (workBuffer.remaining() < 4)
+				refreshWorkBuffer();
+
+			// Bulk transfer as many values as are available in workBuffer
+			var numToRead = Math.min(workBuffer.remaining() / 4, length - numRead);
+			workBuffer.asIntBuffer().get(dstArr, offset + numRead, numToRead);
+			workBuffer.position(workBuffer.position() + numToRead * 4);
+			numRead += numToRead;
+		}
+	}
+
+	@Override
+	public void readLongs(long[] dstArr, int offset, int length) throws IOException
+	{
+		var numRead = 0;
+		while (numRead < length)
+		{
+			// Ensure there is enough data in workBuffer
+			if (workBuffer.remaining() < 8)
+				refreshWorkBuffer();
+
+			// Bulk transfer as many values as are available in workBuffer
+			var numToRead = Math.min(workBuffer.remaining() / 8, length - numRead);
+			workBuffer.asLongBuffer().get(dstArr, offset + numRead, numToRead);
+			workBuffer.position(workBuffer.position() + numToRead * 8);
+			numRead += numToRead;
+		}
+	}
+
 	@Override
 	public String readString() throws IOException
 	{
-		byte[] data;
 		int size;
 
+		// Delegate to the dictionary (if enabled)
+		if (strDictL != null)
+			return readDictString();
+
+		size = readShort() & 0x00FFFF;
+		if (size == 0x00FFFF)
+			return null;
+		if (size == 0)
+			return "";
+
+		return readUtf8(size);
+	}
+
+	@Override
+	public boolean readString(StringBuilder aStrBuf) throws IOException
+	{
+		int size;
+
+		// Delegate to the dictionary (if enabled)
+		if (strDictL != null)
+		{
+			var tmpStr = readDictString();
+			if (tmpStr == null)
+				return false;
+
+			aStrBuf.append(tmpStr);
+			return true;
+		}
+
 		size = readShort() & 0x00FFFF;
 		if (size == 0x00FFFF)
+			return false;
+		if (size == 0)
+			return true;
+
+		decodeUtf8(size, aStrBuf);
+		return true;
+	}
+
+	@Override
+	public String readChars() throws IOException
+	{
+		var size = readVarInt();
+		if (size == -1)
 			return null;
+		if (size < 0)
+			throw new IOException("Invalid string size: " + size);
 		if (size == 0)
 			return "";
 
-		data = new byte[size];
-		readFully(data);
-		return new String(data, Charsets.UTF_8);
+		return readUtf8(size);
+	}
+
+	@Override
+	public boolean readChars(StringBuilder aStrBuf) throws IOException
+	{
+		var size = readVarInt();
+		if (size == -1)
+			return false;
+		if (size < 0)
+			throw new IOException("Invalid string size: " + size);
+
+		decodeUtf8(size, aStrBuf);
+		return true;
 	}
 
 	@Override
@@ -388,6 +675,19 @@ public abstract class BaseZinStream implements ZinStream
 		}
 	}
 
+	/**
+	 * Helper method that disables the computation of the checksum. This should be called whenever the stream is moved
+	 * in a non sequential fashion (ex: seek) - at which point the checksum will no longer be meaningful.
+	 * <p>
+	 * Once called, {@link #getCheckSum()} will return null.
+	 */
+	protected void disableCheckSum()
+	{
+		digestTracker = null;
+		checkSum = null;
+		digestPos = -1;
+	}
+
 	/**
 	 * Helper method to refresh the workBuffer with new data from the stream. This method ensures that workBuffer will
 	 * always have enough data to support reading.
@@ -410,7 +710,7 @@ public abstract class BaseZinStream implements ZinStream
 	protected void updateDigest() throws IOException
 	{
 		// Bail if the there is no digest
-		if (digest == null)
+		if (digestTracker == null)
 			return;
 
 		// Retrieve a duplicate of the workBuffer (to preserve its configuration)
@@ -419,40 +719,163 @@ public abstract class BaseZinStream implements ZinStream
 		// Evaluate the digest from the digestPos to the limit (workBuffer's current position)
 		tmpBuffer.flip();
 		tmpBuffer.position(digestPos);
-		digest.update(tmpBuffer);
+		digestTracker.update(tmpBuffer);
 
 		// Update the digest position
 		digestPos = tmpBuffer.limit();
 	}
 
+	/**
+	 * Helper method to read a string utilizing the string dictionary. See {@link #enableStringDictionary(int)}.
+	 */
+	private String readDictString() throws IOException
+	{
+		var tmpCode = readVarInt();
+
+		// Null strings are handled in special fashion
+		if (tmpCode == 0)
+			return null;
+
+		// Reference to a string in the dictionary
+		if (tmpCode > 0)
+		{
+			var tmpIdx = tmpCode - 1;
+			if (tmpIdx >= strDictL.size())
+				throw new IOException("Invalid dictionary index: " + tmpIdx + " Dictionary size: " + strDictL.size());
+
+			return strDictL.get(tmpIdx);
+		}
+
+		// Read in the (new) string
+		var size = -tmpCode - 1;
+		var retStr = "";
+		if (size > 0)
+			retStr = readUtf8(size);
+
+		// Add the string to the dictionary (if not full)
+		if (strDictL.size() < strDictCap)
+			strDictL.add(retStr);
+
+		return retStr;
+	}
+
+	/**
+	 * Helper method to decode aSize bytes of UTF-8 content and append it to aStrBuf. The content is decoded
+	 * incrementally (directly from the workBuffer) via a (reusable) decoder.
+	 */
+	private void decodeUtf8(int aSize, StringBuilder aStrBuf) throws IOException
+	{
+		// Bail if there is nothing to decode
+		if (aSize == 0)
+			return;
+
+		// Lazy allocation of the decode vars
+		if (decoder == null)
+		{
+			decoder = Charsets.UTF_8.newDecoder();
+			decoder.onMalformedInput(CodingErrorAction.REPLACE);
+			decoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			charBuf = CharBuffer.allocate(8192);
+		}
+
+		decoder.reset();
+		var numLeft = aSize;
+		while (numLeft > 0)
+		{
+			// Ensure there is data in the workBuffer
+			if (workBuffer.remaining() == 0)
+				refreshWorkBuffer();
+
+			// Decode the (resident) portion of the content
+			var numBytes = Math.min(numLeft, workBuffer.remaining());
+			var begPos = workBuffer.position();
+			var oldLimit = workBuffer.limit();
+			workBuffer.limit(begPos + numBytes);
+			charBuf.clear();
+			var tmpResult = decoder.decode(workBuffer, charBuf, numBytes == numLeft);
+			workBuffer.limit(oldLimit);
+			aStrBuf.append(charBuf.array(), 0, charBuf.position());
+
+			var numUsed = workBuffer.position() - begPos;
+			numLeft -= numUsed;
+
+			// A partial (multi-byte) character at the end of the workBuffer requires more data
+			if (numUsed == 0 && tmpResult.isUnderflow() == true)
+				refreshWorkBuffer();
+		}
+
+		charBuf.clear();
+		decoder.flush(charBuf);
+		aStrBuf.append(charBuf.array(), 0, charBuf.position());
+	}
+
+	/**
+	 * Helper method to read a UTF-8 string of aSize bytes. The string will be decoded directly from the workBuffer if
+	 * the entire string is resident (and the workBuffer is backed by an array). Otherwise the bytes will be read into a
+	 * (reusable) scratch buffer. Either way no temporary byte array is allocated (unless the string is over 64 KB).
+	 */
+	private String readUtf8(int aSize) throws IOException
+	{
+		// Decode directly from the workBuffer
+		if (workBuffer.hasArray() == true && workBuffer.remaining() >= aSize)
+		{
+			var begPos = workBuffer.position();
+			var retStr = new String(workBuffer.array(), workBuffer.arrayOffset() + begPos, aSize, Charsets.UTF_8);
+			workBuffer.position(begPos + aSize);
+			return retStr;
+		}
+
+		// Large strings are read into a temporary array - so that the scratch buffer is not retained at a large size
+		if (aSize > 65536)
+		{
+			var data = new byte[aSize];
+			readFully(data);
+			return new String(data, Charsets.UTF_8);
+		}
+
+		// Ensure there is enough space in the scratch buffer
+		if (scratchArr == null || scratchArr.length < aSize)
+			scratchArr = new byte[Math.max(aSize, 256)];
+
+		// Decode from the scratch buffer
+		readFully(scratchArr, 0, aSize);
+		return new String(scratchArr, 0, aSize, Charsets.UTF_8);
+	}
+
 	/**
 	 * Helper method to allocate our work vars.
 	 */
-	private void allocateWorkVars(long streamSizeHint) throws IOException
+	private void allocateWorkVars(ZioStreamOptions aOptions, long streamSizeHint) throws IOException
 	{
 		// Determine if we should use a direct buffer for our workBuffer (stream > 25 MB)
-		var isDirect = false;
-		if (streamSizeHint > 25 * 1024 * 1024)
+		var isDirect = aOptions.getBufferType() == ZioStreamOptions.BufferType.Direct;
+		if (aOptions.getBufferType() == ZioStreamOptions.BufferType.Auto && streamSizeHint > 25 * 1024 * 1024)
 			isDirect = true;
 
-		// Allocate our byte buffer
-		if (isDirect == false)
+		// Determine the size of our workBuffer
+		var workCap = aOptions.getBufferSize();
+		if (workCap == 0 && isDirect == false)
 		{
 			// [1K, 16K], indirect buffer
-			var workCap = (int) streamSizeHint;
+			workCap = (int) Math.min(streamSizeHint, 16 * 1024);
 			if (workCap < 1024)
 				workCap = 1024;
-			else if (workCap > 16 * 1024)
-				workCap = 16 * 1024;
-
-			workBuffer = ByteBuffer.allocate(workCap);
 		}
-		else
+		else if (workCap == 0)
 		{
 			// 512K, direct buffer
-			var workCap = 512 * 1024;
-			workBuffer = ByteBuffer.allocateDirect(workCap);
+			workCap = 512 * 1024;
 		}
+
+		// Allocate our byte buffer. Direct buffers are borrowed from the pool (if specified).
+		bufferPool = aOptions.getBufferPool();
+		pooledBuffer = null;
+		if (isDirect == false)
+			workBuffer = ByteBuffer.allocate(workCap);
+		else if (bufferPool == null)
+			workBuffer = ByteBuffer.allocateDirect(workCap);
+		else
+			workBuffer = pooledBuffer = bufferPool.borrow(workCap);
 //System.out.println("Is direct buffer: " + workBuffer.isDirect() + " bufferCap: " + workCap);
 
 		// Mark the contents in workBuffer as completely empty
@@ -14,14 +14,17 @@
 package glum.zio.stream;
 
 import java.io.IOException;
-import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.google.common.base.Charsets;
-import com.google.common.base.Strings;
 
+import glum.digest.*;
 import glum.util.WallTimer;
 import glum.zio.ZoutStream;
 import glum.zio.util.ZioUtil;
@@ -35,39 +38,184 @@ public abstract class BaseZoutStream implements ZoutStream
 {
 	// Work vars
 	protected ByteBuffer workBuffer;
+	private DirectBufferPool bufferPool;
+	private ByteBuffer pooledBuffer;
 
 	// Stat vars
 	private WallTimer wallTimer;
-	private MessageDigest digest;
-	private String checkSumStr;
+	private DigestType digestType;
+	private DigestTracker digestTracker;
+	private Digest checkSum;
+	private int digestPos;
+
+	// String dictionary vars
+	private Map<String, Integer> strDictM;
+	private int strDictCap;
+
+	// String encode vars
+	private CharsetEncoder encoder;
 
 	/**
 	 * Standard Constructor
 	 *
-	 * @param computeCheckSum
-	 *        True if a checksum (md5sum) is desired to be computed as the stream is written
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is written. A value of null implies no checksum.
 	 * @param isDirect
 	 *        True if a direct buffer is desired. This should only be true if the stream is going to a physical I/O
 	 *        component (disk, network) and the size of the final stream will be at least ~50 MB.
 	 */
-	public BaseZoutStream(boolean computeCheckSum, boolean isDirect) throws IOException
+	public BaseZoutStream(DigestType aDigestType, boolean isDirect) throws IOException
+	{
+		this(ZioStreamOptions.Default.withDigestType(aDigestType)
+				.withBuffer(isDirect == true ? ZioStreamOptions.BufferType.Direct : ZioStreamOptions.BufferType.Heap, 0));
+	}
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aOptions
+	 *        The options that define the checksum and the work buffer of this stream. A buffer type of
+	 *        {@link ZioStreamOptions.BufferType#Auto} implies a heap buffer.
+	 */
+	public BaseZoutStream(ZioStreamOptions aOptions) throws IOException
 	{
+		var aDigestType = aOptions.getDigestType();
+
 		// Allocate the stat vars
 		wallTimer = new WallTimer(true);
-		digest = null;
-		checkSumStr = null;
-		try
-		{
-			if (computeCheckSum == true)
-				digest = MessageDigest.getInstance("MD5");
-		}
-		catch (NoSuchAlgorithmException aExp)
-		{
-			throw new IOException("Unreconized Algorithm", aExp);
-		}
+		digestType = aDigestType;
+		digestTracker = null;
+		checkSum = null;
+		digestPos = 0;
+		if (aDigestType != null)
+			digestTracker = new DigestTracker(aDigestType);
 
 		// Allocate our work vars
-		allocateWorkVars(isDirect);
+		allocateWorkVars(aOptions);
+	}
+
+	/**
+	 * Simplified Constructor
+	 *
+	 * @param computeCheckSum
+	 *        True if a checksum (md5sum) is desired to be computed as the stream is written
+	 * @param isDirect
+	 *        True if a direct buffer is desired. See {@link #BaseZoutStream(DigestType, boolean)}.
+	 */
+	public BaseZoutStream(boolean computeCheckSum, boolean isDirect) throws IOException
+	{
+		this(computeCheckSum == true ? DigestType.MD5 : null, isDirect);
+	}
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aWorkBuffer
+	 *        This ByteBuffer will be used as the workBuffer. No workBuffer will be allocated for this BaseZoutStream.
+	 *        Content will be written starting at the buffer's current position.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is written. A value of null implies no checksum.
+	 */
+	public BaseZoutStream(ByteBuffer aWorkBuffer, DigestType aDigestType) throws IOException
+	{
+		// Allocate the stat vars
+		wallTimer = new WallTimer(true);
+		digestType = aDigestType;
+		digestTracker = null;
+		checkSum = null;
+		if (aDigestType != null)
+			digestTracker = new DigestTracker(aDigestType);
+
+		// Allocate the work vars
+		workBuffer = aWorkBuffer;
+		if (workBuffer == null)
+			throw new NullPointerException();
+		digestPos = workBuffer.position();
+	}
+
+	/**
+	 * Returns the type of checksum being computed. Returns null if no checksum is being computed.
+	 */
+	public DigestType getDigestType()
+	{
+		return digestType;
+	}
+
+	/**
+	 * Returns the list of segments (and their digests) that have been completed. Segment tracking must first be
+	 * enabled via {@link #enableSegments(long)}.
+	 * <p>
+	 * Once the stream is closed the last (partial) segment will be included.
+	 */
+	public List<DigestSegment> getSegmentList()
+	{
+		if (digestTracker == null)
+			return List.of();
+
+		return digestTracker.getSegmentList();
+	}
+
+	/**
+	 * Enables the tracking of per segment digests. This allows a corrupted region of a stream to be located without
+	 * having to reread the entire stream. The first segment will start at the current position.
+	 *
+	 * @param aSegmentSize
+	 *        The number of bytes in each segment. A value of 0 implies that segments will only be delimited via
+	 *        {@link #markSegment()}.
+	 * @throws IllegalStateException
+	 *         If a checksum is not being computed.
+	 */
+	public void enableSegments(long aSegmentSize)
+	{
+		if (digestTracker == null)
+			throw new IllegalStateException("A checksum is not being computed.");
+
+		updateDigest();
+		digestTracker.enableSegments(aSegmentSize);
+	}
+
+	/**
+	 * Enables the string dictionary mode. Once enabled, each unique string (up to aMaxSize) is written in full only once
+	 * - subsequent writes of the same string are written as an index into the dictionary. This is useful for streams
+	 * that repeatedly write the same (small) set of strings.
+	 * <p>
+	 * The corresponding {@link BaseZinStream} must enable the string dictionary (with the same max size) at the same
+	 * point in the stream.
+	 * <p>
+	 * Format: &lt;code:varInt> (&lt;UTF-8 bytes>)?
+	 * <ul>
+	 * <li>code == 0: null
+	 * <li>code &gt; 0: reference to dictionary entry (code - 1)
+	 * <li>code &lt; 0: new string of (-code - 1) bytes. The string is added to the dictionary if it is not full.
+	 * </ul>
+	 *
+	 * @param aMaxSize
+	 *        The max number of strings that will be stored in the dictionary.
+	 */
+	public void enableStringDictionary(int aMaxSize)
+	{
+		if (aMaxSize < 1)
+			throw new IllegalArgumentException("Dictionary size must be at least 1. Requested: " + aMaxSize);
+		if (strDictM != null)
+			throw new IllegalStateException("The string dictionary has already been enabled.");
+
+		strDictM = new HashMap<>();
+		strDictCap = aMaxSize;
+	}
+
+	/**
+	 * Marks the end of the current segment at the current position. A typical usage would be to call this method after
+	 * each top level object has been written.
+	 * <p>
+	 * Nothing will be recorded if segment tracking is not enabled or if the current segment is empty.
+	 */
+	public void markSegment()
+	{
+		if (digestTracker == null)
+			return;
+
+		updateDigest();
+		digestTracker.markSegment();
 	}
 
 	/**
@@ -88,32 +236,47 @@ public abstract class BaseZoutStream implements ZoutStream
 		// Empty any remaining buffered bytes
 		emptyWorkBuffer();
 
-		// Force the checksum to be computed
-		getCheckSum();
+		// Force the checksum (and last segment) to be computed
+		markSegment();
+		getDigest();
 
-		// Release the work and digest vars
+		// Release the work vars
 		workBuffer = null;
-		digest = null;
 
 		// Release the stream vars
 		releaseStreamVars();
+
+		// Return the (pooled) work buffer
+		if (pooledBuffer != null)
+		{
+			bufferPool.release(pooledBuffer);
+			pooledBuffer = null;
+		}
 	}
 
 	@Override
 	public String getCheckSum() throws IOException
+	{
+		var tmpDigest = getDigest();
+		if (tmpDigest == null)
+			return null;
+
+		return tmpDigest.getValueAsString();
+	}
+
+	@Override
+	public Digest getDigest() throws IOException
 	{
 		// If the stream is dead then just return the previously computed checksum
-		if (workBuffer == null || digest == null)
-			return checkSumStr;
+		if (workBuffer == null || digestTracker == null)
+			return checkSum;
 
-		// We are on a live stream, and need to (re)evaluate the digest
-		// Ensure there are no unaccounted bytes in the workBuffer
-		emptyWorkBuffer();
+		// We are on a live stream, and need to (re)evaluate the digest. Note the digest state is not reset.
+		updateDigest();
 
 		// Transform the digest into a checksum
-		checkSumStr = new BigInteger(1, digest.digest()).toString(16);
-		checkSumStr = Strings.padStart(checkSumStr, 32, '0');
-		return checkSumStr;
+		checkSum = digestTracker.getDigest();
+		return checkSum;
 	}
 
 	@Override
@@ -189,6 +352,46 @@ public abstract class BaseZoutStream implements ZoutStream
 		workBuffer.putShort(aShort);
 	}
 
+	@Override
+	public void writeVarInt(int aInt) throws IOException
+	{
+		// Zigzag encode the value
+		var rawVal = (aInt << 1) ^ (aInt >> 31);
+
+		// Ensure there is enough space in workBuffer for the encoded bytes (1 byte per 7 bits)
+		var numBytes = (32 - Integer.numberOfLeadingZeros(rawVal | 1) + 6) / 7;
+		if (workBuffer.remaining() < numBytes)
+			emptyWorkBuffer();
+
+		// Write it out as a LEB128 value
+		while ((rawVal & ~0x7F) != 0)
+		{
+			workBuffer.put((byte) ((rawVal & 0x7F) | 0x80));
+			rawVal >>>= 7;
+		}
+		workBuffer.put((byte) rawVal);
+	}
+
+	@Override
+	public void writeVarLong(long aLong) throws IOException
+	{
+		// Zigzag encode the value
+		var rawVal = (aLong << 1) ^ (aLong >> 63);
+
+		// Ensure there is enough space in workBuffer for the encoded bytes (1 byte per 7 bits)
+		var numBytes = (64 - Long.numberOfLeadingZeros(rawVal | 1) + 6) / 7;
+		if (workBuffer.remaining() < numBytes)
+			emptyWorkBuffer();
+
+		// Write it out as a LEB128 value
+		while ((rawVal & ~0x7FL) != 0)
+		{
+			workBuffer.put((byte) ((rawVal & 0x7F) | 0x80));
+			rawVal >>>= 7;
+		}
+		workBuffer.put((byte) rawVal);
+	}
+
 	@Override
 	public void writeFloat(float aFloat) throws IOException
 	{
@@ -209,12 +412,91 @@ public abstract class BaseZoutStream implements ZoutStream
 		workBuffer.putDouble(aDouble);
 	}
 
+	@Override
+	public void writeDoubles(double[] srcArr, int offset, int length) throws IOException
+	{
+		var numWritten = 0;
+		while (numWritten < length)
+		{
+			// Ensure there is enough space in workBuffer
+			if (workBuffer.remaining() < 8)
+				emptyWorkBuffer();
+
+			// Bulk transfer as many values as will fit in workBuffer
+			var numToWrite = Math.min(workBuffer.remaining() / 8, length - numWritten);
+			workBuffer.asDoubleBuffer().put(srcArr, offset + numWritten, numToWrite);
+			workBuffer.position(workBuffer.position() + numToWrite * 8);
+			numWritten += numToWrite;
+		}
+	}
+
+	@Override
+	public void writeFloats(float[] srcArr, int offset, int length) throws IOException
+	{
+		var numWritten = 0;
+		while (numWritten < length)
+		{
+			// Ensure there is enough space in workBuffer
+			if (workBuffer.remaining() < 4)
+				emptyWorkBuffer();
+
+			// Bulk transfer as many values as will fit in workBuffer
+			var numToWrite = Math.min(workBuffer.remaining() / 4, length - numWritten);
+			workBuffer.asFloatBuffer().put(srcArr, offset + numWritten, numToWrite);
+			workBuffer.position(workBuffer.position() + numToWrite * 4);
+			numWritten += numToWrite;
+		}
+	}
+
+	@Override
+	public void writeInts(int[] srcArr, int offset, int length) throws IOException
+	{
+		var numWritten = 0;
+		while (numWritten < length)
+		{
+			// Ensure there is enough space in workBuffer
+			if (workBuffer.remaining() < 4)
+				emptyWorkBuffer();
+
+			// Bulk transfer as many values as will fit in workBuffer
+			var numToWrite = Math.min(workBuffer.remaining() / 4, length - numWritten);
+			workBuffer.asIntBuffer().put(srcArr, offset + numWritten, numToWrite);
+			workBuffer.position(workBuffer.position() + numToWrite * 4);
+			numWritten += numToWrite;
+		}
+	}
+
+	@Override
+	public void writeLongs(long[] srcArr, int offset, int length) throws IOException
+	{
+		var numWritten = 0;
+		while (numWritten < length)
+		{
+			// Ensure there is enough space in workBuffer
+			if (workBuffer.remaining() < 8)
+				emptyWorkBuffer();
+
+			// Bulk transfer as many values as will fit in workBuffer
+			var numToWrite = Math.min(workBuffer.remaining() / 8, length - numWritten);
+			workBuffer.asLongBuffer().put(srcArr, offset + numWritten, numToWrite);
+			workBuffer.position(workBuffer.position() + numToWrite * 8);
+			numWritten += numToWrite;
+		}
+	}
+
 	@Override
 	public void writeString(String aStr) throws IOException
 	{
 		byte[] data;
 		int size;
 
+		// Delegate to the dictionary (if enabled)
+		if (strDictM != null)
+		{
+			writeDictString(aStr);
+			return;
+		}
+
 		// Null strings are handled in special fashion
 		if (aStr == null)
 		{
@@ -235,14 +517,55 @@ public abstract class BaseZoutStream implements ZoutStream
 
 		// Ensure the string size is less than 0x00FFFF
 		if (size >= 0x00FFFF)
-			throw new RuntimeException(
-					"Transformed UTF-8 string is too large! Max size: " + (0x00FFFF - 1) + "  Curr size:" + size);
+			throw new RuntimeException("Transformed UTF-8 string is too large! Max size: " + (0x00FFFF - 1)
+					+ "  Curr size:" + size + ". Use writeChars() for large strings.");
 
 		// Write out the string
 		writeShort((short) (size & 0x00FFFF));
 		writeFully(data);
 	}
 
+	@Override
+	public void writeChars(CharSequence aCharSeq) throws IOException
+	{
+		// Null strings are handled in special fashion
+		if (aCharSeq == null)
+		{
+			writeVarInt(-1);
+			return;
+		}
+
+		// Write out the size (in bytes)
+		var size = ZioUtil.getUtf8Size(aCharSeq);
+		if (size > Integer.MAX_VALUE)
+			throw new IOException("Transformed UTF-8 string is too large! Max size: " + Integer.MAX_VALUE //
+					+ "  Curr size:" + size);
+		writeVarInt((int) size);
+
+		// Small strings are faster to transform via String.getBytes()
+		if (aCharSeq instanceof String aStr && size <= 8192)
+		{
+			writeFully(aStr.getBytes(Charsets.UTF_8));
+			return;
+		}
+
+		// Lazy allocation of the encoder
+		if (encoder == null)
+		{
+			encoder = Charsets.UTF_8.newEncoder();
+			encoder.onMalformedInput(CodingErrorAction.REPLACE);
+			encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+
+		// Encode the characters directly into the workBuffer
+		encoder.reset();
+		var srcBuf = CharBuffer.wrap(aCharSeq);
+		while (encoder.encode(srcBuf, workBuffer, true).isOverflow() == true)
+			emptyWorkBuffer();
+		while (encoder.flush(workBuffer).isOverflow() == true)
+			emptyWorkBuffer();
+	}
+
 	@Override
 	public void writeRawString(String aStr) throws IOException
 	{
@@ -307,19 +630,22 @@ public abstract class BaseZoutStream implements ZoutStream
 	 * Helper method that ensures the digest has been updated with any buffered data. The buffer will be cleared after
 	 * the digest has been updated.
 	 * <p>
-	 * The method shall be called exclusively from {@link BaseZoutStream#emptyWorkBuffer()}.
+	 * The method shall be called exclusively from {@link BaseZoutStream#emptyWorkBuffer()}. The workBuffer is expected
+	 * to have been flipped (limit set to the end of the buffered data).
 	 */
 	protected void clearWorkBuffer()
 	{
-		// Update the digest (if requested)
-		if (digest != null)
+		// Update the digest (if requested) with the buffered data not yet accounted for
+		if (digestTracker != null)
 		{
 			workBuffer.rewind();
-			digest.update(workBuffer);
+			workBuffer.position(digestPos);
+			digestTracker.update(workBuffer);
 		}
 
 		// Clear the workBuffer
 		workBuffer.clear();
+		digestPos = 0;
 	}
 
 	/**
@@ -334,28 +660,79 @@ public abstract class BaseZoutStream implements ZoutStream
 	 */
 	protected abstract void releaseStreamVars() throws IOException;
 
+	/**
+	 * Helper method that ensures the digest has been updated with the data that has been written to the workBuffer
+	 * thus far. The workBuffer is not affected.
+	 */
+	private void updateDigest()
+	{
+		// Bail if the there is no digest
+		if (digestTracker == null)
+			return;
+
+		// Evaluate the digest from the digestPos to the workBuffer's current position
+		var tmpBuffer = workBuffer.duplicate();
+		tmpBuffer.flip();
+		tmpBuffer.position(digestPos);
+		digestTracker.update(tmpBuffer);
+
+		// Update the digest position
+		digestPos = workBuffer.position();
+	}
+
+	/**
+	 * Helper method to write a string utilizing the string dictionary. See {@link #enableStringDictionary(int)}.
+	 */
+	private void writeDictString(String aStr) throws IOException
+	{
+		// Null strings are handled in special fashion
+		if (aStr == null)
+		{
+			writeVarInt(0);
+			return;
+		}
+
+		// Write a reference to the string (if in the dictionary)
+		var tmpIdx = strDictM.get(aStr);
+		if (tmpIdx != null)
+		{
+			writeVarInt(tmpIdx + 1);
+			return;
+		}
+
+		// Write out the (new) string
+		var data = aStr.getBytes(Charsets.UTF_8);
+		writeVarInt(-(data.length + 1));
+		writeFully(data);
+
+		// Add the string to the dictionary (if not full)
+		if (strDictM.size() < strDictCap)
+			strDictM.put(aStr, strDictM.size());
+	}
+
 	/**
 	 * Helper method to allocate our work vars.
 	 *
 	 * @throws IOException
 	 */
-	private void allocateWorkVars(boolean isDirect) throws IOException
+	private void allocateWorkVars(ZioStreamOptions aOptions) throws IOException
 	{
-		int workCap;
+		var isDirect = aOptions.getBufferType() == ZioStreamOptions.BufferType.Direct;
+
+		// Determine the size of our workBuffer: 16K (indirect) or 512K (direct) unless specified
+		var workCap = aOptions.getBufferSize();
+		if (workCap == 0)
+			workCap = isDirect == false ? 16 * 1024 : 512 * 1024;
 
-		// Allocate our byte buffer
+		// Allocate our byte buffer. Direct buffers are borrowed from the pool (if specified).
+		bufferPool = aOptions.getBufferPool();
+		pooledBuffer = null;
 		if (isDirect == false)
-		{
-			// 16K, indirect buffer
-			workCap = 16 * 1024;
 			workBuffer = ByteBuffer.allocate(workCap);
-		}
-		else
-		{
-			// 512K, direct buffer
-			workCap = 512 * 1024;
+		else if (bufferPool == null)
 			workBuffer = ByteBuffer.allocateDirect(workCap);
-		}
+		else
+			workBuffer = pooledBuffer = bufferPool.borrow(workCap);
 //System.out.println("Is direct buffer: " + workBuffer.isDirect() + " bufferCap: " + workCap);
 
 		// Mark the buffers as empty
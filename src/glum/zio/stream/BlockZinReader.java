@@ -0,0 +1,272 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import glum.digest.DigestType;
+import glum.digest.DigestUtils;
+import glum.zio.ZinStream;
+import glum.zio.ZioSpawner;
+
+/**
+ * Class used to read the records of a block framed stream (written via {@link BlockZoutStream}).
+ * <p>
+ * The blocks are read (sequentially) from the wrapped {@link ZinStream} on the calling thread, while the blocks are
+ * verified and decoded in parallel on a {@link ForkJoinPool}. The records are delivered, in order, to the consumer on
+ * the calling thread. The number of blocks that are decoded ahead of the consumer is bounded.
+ * <p>
+ * The {@link ZioSpawner} used to decode the records will be called concurrently and thus must be thread safe.
+ *
+ * @author lopeznr1
+ */
+public class BlockZinReader implements AutoCloseable
+{
+	// Attributes
+	private final ForkJoinPool refPool;
+	private final int maxPending;
+	private final DigestType blockDigestType;
+	private final int digestLen;
+
+	// Stream vars
+	private ZinStream refStream;
+	private boolean isEnd;
+	private int blockIdx;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aStream
+	 *        The stream where the blocks will be read from. The stream will be closed once all of the records have been
+	 *        read (or when this reader is closed).
+	 * @param aPool
+	 *        The pool on which the blocks will be decoded.
+	 * @param aMaxPending
+	 *        The max number of blocks that will be decoded ahead of the consumer.
+	 */
+	public BlockZinReader(ZinStream aStream, ForkJoinPool aPool, int aMaxPending) throws IOException
+	{
+		if (aMaxPending < 1)
+			throw new IllegalArgumentException("Max pending blocks must be at least 1. Requested: " + aMaxPending);
+
+		refPool = aPool;
+		maxPending = aMaxPending;
+
+		refStream = aStream;
+		isEnd = false;
+		blockIdx = 0;
+
+		// Read in the header
+		refStream.readRawStringAndValidate(BlockZoutStream.Magic);
+		refStream.readVersion(0);
+
+		var digestCode = refStream.readByte() & 0x00FF;
+		blockDigestType = BlockZoutStream.parseDigestCode(digestCode);
+		digestLen = blockDigestType == null ? 0 : DigestUtils.getDigest(blockDigestType).getDigestLength();
+	}
+
+	/** Simplified Constructor */
+	public BlockZinReader(ZinStream aStream) throws IOException
+	{
+		this(aStream, ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism() * 2 + 1);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		// Bail if we have already been closed
+		if (refStream == null)
+			return;
+
+		isEnd = true;
+		refStream.close();
+		refStream = null;
+	}
+
+	/**
+	 * Returns the type of checksum stored with each block. Returns null if the blocks do not have a checksum.
+	 */
+	public DigestType getBlockDigestType()
+	{
+		return blockDigestType;
+	}
+
+	/**
+	 * Reads all of the (remaining) records and returns them as a list.
+	 */
+	public <G1> ArrayList<G1> readList(ZioSpawner<G1> aSpawner) throws IOException
+	{
+		var retItemL = new ArrayList<G1>();
+		readRecords(aSpawner, retItemL::add);
+		return retItemL;
+	}
+
+	/**
+	 * Reads all of the (remaining) records and delivers them (in order) to the specified consumer. The consumer is
+	 * called on the calling thread.
+	 *
+	 * @param aSpawner
+	 *        The (thread safe) spawner used to decode each record.
+	 * @param aConsumer
+	 *        The consumer that will be notified of each record.
+	 */
+	public <G1> void readRecords(ZioSpawner<G1> aSpawner, Consumer<? super G1> aConsumer) throws IOException
+	{
+		var pendingQ = new ArrayDeque<Future<List<G1>>>();
+		try
+		{
+			while (true)
+			{
+				// Read the next (raw) block and submit it to be decoded
+				var tmpBlock = readBlock();
+				if (tmpBlock == null)
+					break;
+
+				pendingQ.add(refPool.submit(() -> decodeBlock(tmpBlock, aSpawner)));
+
+				// Deliver the oldest block once the max number of pending blocks has been reached
+				if (pendingQ.size() >= maxPending)
+					deliverBlock(pendingQ.remove(), aConsumer);
+			}
+
+			// Deliver the remaining blocks
+			while (pendingQ.isEmpty() == false)
+				deliverBlock(pendingQ.remove(), aConsumer);
+		}
+		finally
+		{
+			// Cancel any blocks that will never be delivered (due to failure)
+			for (var aFuture : pendingQ)
+				aFuture.cancel(true);
+		}
+	}
+
+	/**
+	 * Helper method that decodes the records in the specified block. This is executed on the pool.
+	 */
+	private <G1> List<G1> decodeBlock(RawBlock aBlock, ZioSpawner<G1> aSpawner) throws IOException
+	{
+		// Verify the checksum
+		if (blockDigestType != null)
+		{
+			var tmpDigest = DigestUtils.getDigest(blockDigestType);
+			var evalArr = tmpDigest.digest(aBlock.dataArr);
+			if (MessageDigest.isEqual(evalArr, aBlock.digestArr) == false)
+				throw new IOException("Corrupted block: " + aBlock.index + ". Mismatched " + blockDigestType + " checksum. " //
+						+ "Expected: " + DigestUtils.byteArr2HexStr(aBlock.digestArr) //
+						+ " Actual: " + DigestUtils.byteArr2HexStr(evalArr));
+		}
+
+		// Decode the records. Note the initial capacity is capped as the count may be corrupt.
+		var tmpStream = new ByteArrayZinStream(aBlock.dataArr);
+		var retItemL = new ArrayList<G1>(Math.min(aBlock.numRecords, 1024));
+		for (int c1 = 0; c1 < aBlock.numRecords; c1++)
+			retItemL.add(aSpawner.readInstance(tmpStream));
+
+		if (tmpStream.getAvailable() != 0)
+			throw new IOException("Corrupted block: " + aBlock.index + ". Unread bytes: " + tmpStream.getAvailable());
+		tmpStream.close();
+
+		return retItemL;
+	}
+
+	/**
+	 * Helper method that waits for the specified (decoded) block and delivers its records to the consumer.
+	 */
+	private <G1> void deliverBlock(Future<List<G1>> aFuture, Consumer<? super G1> aConsumer) throws IOException
+	{
+		List<G1> itemL;
+		try
+		{
+			itemL = aFuture.get();
+		}
+		catch (InterruptedException aExp)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for block to be decoded.");
+		}
+		catch (ExecutionException aExp)
+		{
+			// Note the pool may wrap the (checked) IOException in (multiple levels of) RuntimeException
+			var tmpCause = aExp.getCause();
+			while (tmpCause instanceof RuntimeException && tmpCause.getCause() != null)
+				tmpCause = tmpCause.getCause();
+
+			if (tmpCause instanceof IOException aIOExp)
+				throw aIOExp;
+			throw new IOException("Failed to decode block.", tmpCause);
+		}
+
+		for (G1 aItem : itemL)
+			aConsumer.accept(aItem);
+	}
+
+	/**
+	 * Helper method that reads the next (raw) block from refStream. Returns null (and closes refStream) once the
+	 * terminator has been reached.
+	 */
+	private RawBlock readBlock() throws IOException
+	{
+		if (isEnd == true)
+			return null;
+
+		var numBytes = refStream.readInt();
+		if (numBytes == 0)
+		{
+			close();
+			return null;
+		}
+		if (numBytes < 0)
+			throw new IOException("Corrupted block stream. Invalid block size: " + numBytes);
+
+		var numRecords = refStream.readInt();
+		if (numRecords <= 0)
+			throw new IOException("Corrupted block stream. Invalid record count: " + numRecords);
+
+		var digestArr = new byte[digestLen];
+		refStream.readFully(digestArr);
+
+		var dataArr = new byte[numBytes];
+		refStream.readFully(dataArr);
+
+		return new RawBlock(blockIdx++, numRecords, digestArr, dataArr);
+	}
+
+	/**
+	 * Private class that holds the (undecoded) content of a single block.
+	 */
+	private static class RawBlock
+	{
+		// Attributes
+		private final int index;
+		private final int numRecords;
+		private final byte[] digestArr;
+		private final byte[] dataArr;
+
+		/** Standard Constructor */
+		public RawBlock(int aIndex, int aNumRecords, byte[] aDigestArr, byte[] aDataArr)
+		{
+			index = aIndex;
+			numRecords = aNumRecords;
+			digestArr = aDigestArr;
+			dataArr = aDataArr;
+		}
+	}
+
+}
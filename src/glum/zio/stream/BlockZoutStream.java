@@ -0,0 +1,258 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import glum.digest.DigestType;
+import glum.digest.DigestUtils;
+import glum.zio.ZoutStream;
+
+/**
+ * Implementation of {@link ZoutStream} that groups records into independent blocks before they are sent to the wrapped
+ * {@link ZoutStream}.
+ * <p>
+ * The end of each record must be marked via {@link #endRecord()}. Records never span blocks - a block is completed
+ * once it holds (at least) blockSize bytes of whole records. Since each block can be decoded independently of the
+ * others, the content can be read back in (in parallel) via {@link BlockZinReader}.
+ * <p>
+ * Format: &lt;header> (&lt;block>)&ast; &lt;0:int>
+ * <ul>
+ * <li>header: &lt;{@link #Magic}> &lt;version> &lt;digestCode:byte> where a digestCode of 0 implies no digest. The
+ * digest codes are: 1: MD5, 2: SHA256, 3: SHA512, 4: CRC32C
+ * <li>block: &lt;numBytes:int> &lt;numRecords:int> (&lt;digest>)? &lt;bytes>
+ * </ul>
+ *
+ * @author lopeznr1
+ */
+public class BlockZoutStream extends BaseZoutStream
+{
+	/** Header used to identify a block framed zio stream. */
+	public static final String Magic = "ZioBlock";
+
+	/** Default block size: 1 MB */
+	public static final int DefaultBlockSize = 1024 * 1024;
+
+	// Attributes
+	private final DigestType blockDigestType;
+	private final int blockSize;
+
+	// Stream vars
+	private ZoutStream refStream;
+	private byte[] blockArr;
+	private int blockPos;
+	private int recordEndPos;
+	private int numRecords;
+	private long flushPos;
+
+	// Stat vars
+	private int numBlocks;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aStream
+	 *        The stream where the blocks will be written. The stream will be closed when this stream is closed.
+	 * @param aBlockDigestType
+	 *        The type of checksum to be computed (and stored) for each block. A value of null implies no checksum.
+	 * @param aBlockSize
+	 *        The (target) number of bytes in each block.
+	 */
+	public BlockZoutStream(ZoutStream aStream, DigestType aBlockDigestType, int aBlockSize) throws IOException
+	{
+		super((DigestType) null, false);
+
+		if (aBlockSize < 1024)
+			throw new IllegalArgumentException("Block size must be at least 1 KB. Requested: " + aBlockSize);
+
+		blockDigestType = aBlockDigestType;
+		blockSize = aBlockSize;
+
+		// Set up the stream vars
+		refStream = aStream;
+		blockArr = new byte[aBlockSize + workBuffer.capacity()];
+		blockPos = 0;
+		recordEndPos = 0;
+		numRecords = 0;
+		flushPos = 0;
+
+		numBlocks = 0;
+
+		// Write out the header
+		refStream.writeRawString(Magic);
+		refStream.writeVersion(0);
+		refStream.writeByte((byte) getDigestCode(aBlockDigestType));
+	}
+
+	/** Simplified Constructor */
+	public BlockZoutStream(ZoutStream aStream) throws IOException
+	{
+		this(aStream, DigestType.CRC32C, DefaultBlockSize);
+	}
+
+	/**
+	 * Marks the end of the current record. The current block will be completed if it is full.
+	 */
+	public void endRecord() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		numRecords++;
+		recordEndPos = blockPos + workBuffer.position();
+
+		// Complete the block (if full)
+		if (recordEndPos >= blockSize)
+		{
+			emptyWorkBuffer();
+			writeBlock();
+		}
+	}
+
+	/**
+	 * Returns the number of blocks that have been written.
+	 */
+	public int getNumBlocks()
+	{
+		return numBlocks;
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return flushPos + blockPos + workBuffer.position();
+	}
+
+	@Override
+	protected void emptyWorkBuffer() throws IOException
+	{
+		// Prepare the buffer for a dump of its contents from the start
+		workBuffer.flip();
+
+		// Ensure there is enough space in blockArr. Note the block will grow if a single record exceeds the block size.
+		var numBufBytes = workBuffer.remaining();
+		if (blockArr.length - blockPos < numBufBytes)
+			blockArr = Arrays.copyOf(blockArr, (blockArr.length + numBufBytes) * 2);
+
+		// Copy the contents of workBuffer to the block
+		workBuffer.get(blockArr, blockPos, numBufBytes);
+		blockPos += numBufBytes;
+
+		// Clear the workBuffer
+		clearWorkBuffer();
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		// Any trailing content is treated as the last record
+		if (blockPos > recordEndPos)
+		{
+			numRecords++;
+			recordEndPos = blockPos;
+		}
+
+		// Write out the last (partial) block and the terminator
+		writeBlock();
+		refStream.writeInt(0);
+		refStream.close();
+
+		refStream = null;
+		blockArr = null;
+	}
+
+	/**
+	 * Helper method that writes the completed records (in blockArr) as a block to refStream. Any bytes past the last
+	 * record will be carried over to the next block.
+	 */
+	private void writeBlock() throws IOException
+	{
+		// Bail if there are no records
+		if (numRecords == 0)
+			return;
+
+		refStream.writeInt(recordEndPos);
+		refStream.writeInt(numRecords);
+		if (blockDigestType != null)
+		{
+			var tmpDigest = DigestUtils.getDigest(blockDigestType);
+			tmpDigest.update(blockArr, 0, recordEndPos);
+			refStream.writeFully(tmpDigest.digest());
+		}
+		refStream.writeFully(blockArr, 0, recordEndPos);
+
+		// Carry over any bytes past the last record
+		System.arraycopy(blockArr, recordEndPos, blockArr, 0, blockPos - recordEndPos);
+		blockPos -= recordEndPos;
+		flushPos += recordEndPos;
+		recordEndPos = 0;
+		numRecords = 0;
+		numBlocks++;
+	}
+
+	/**
+	 * Returns the (stable) code used to identify the specified {@link DigestType} in the header. A value of null
+	 * corresponds to a code of 0.
+	 * <p>
+	 * Note the codes must never be changed as they are stored in existing files.
+	 */
+	static int getDigestCode(DigestType aDigestType)
+	{
+		if (aDigestType == null)
+			return 0;
+
+		switch (aDigestType)
+		{
+			case MD5:
+				return 1;
+			case SHA256:
+				return 2;
+			case SHA512:
+				return 3;
+			case CRC32C:
+				return 4;
+			default:
+				throw new IllegalArgumentException("Unsupported digest type: " + aDigestType);
+		}
+	}
+
+	/**
+	 * Returns the {@link DigestType} corresponding to the specified code. See {@link #getDigestCode(DigestType)}.
+	 */
+	static DigestType parseDigestCode(int aCode) throws IOException
+	{
+		switch (aCode)
+		{
+			case 0:
+				return null;
+			case 1:
+				return DigestType.MD5;
+			case 2:
+				return DigestType.SHA256;
+			case 3:
+				return DigestType.SHA512;
+			case 4:
+				return DigestType.CRC32C;
+			default:
+				throw new IOException("Unrecognized digest code: " + aCode);
+		}
+	}
+
+}
@@ -17,6 +17,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
+import glum.digest.DigestType;
 import glum.zio.ZinStream;
 
 /**
@@ -26,15 +27,28 @@ import glum.zio.ZinStream;
  */
 public class ByteArrayZinStream extends BaseZinStream
 {
-	/** Standard Constructor */
-	public ByteArrayZinStream(byte[] aDataArr, boolean computeCheckSum) throws IOException
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aDataArr
+	 *        The byte array to be read.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
+	 */
+	public ByteArrayZinStream(byte[] aDataArr, DigestType aDigestType) throws IOException
 	{
-		super(ByteBuffer.wrap(aDataArr), computeCheckSum);
+		super(ByteBuffer.wrap(aDataArr), aDigestType);
 
 		// Move the position to the start
 		workBuffer.rewind();
 	}
 
+	/** Simplified Constructor */
+	public ByteArrayZinStream(byte[] aDataArr, boolean computeCheckSum) throws IOException
+	{
+		this(aDataArr, computeCheckSum == true ? DigestType.MD5 : null);
+	}
+
 	/** Simplified Constructor */
 	public ByteArrayZinStream(byte[] aDataArr) throws IOException
 	{
@@ -60,6 +74,23 @@ public class ByteArrayZinStream extends BaseZinStream
 		return workBuffer.position();
 	}
 
+	@Override
+	public void seek(long aPos) throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		// Ensure the position is valid
+		if (aPos < 0 || aPos > workBuffer.limit())
+			throw new IOException("Invalid position: " + aPos + " Valid range: [0, " + workBuffer.limit() + "]");
+
+		// The checksum is no longer valid
+		disableCheckSum();
+
+		workBuffer.position((int) aPos);
+	}
+
 	@Override
 	protected void refreshWorkBuffer() throws IOException
 	{
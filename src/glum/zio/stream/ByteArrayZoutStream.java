@@ -16,6 +16,7 @@ package glum.zio.stream;
 import java.io.IOException;
 import java.util.Arrays;
 
+import glum.digest.DigestType;
 import glum.zio.ZoutStream;
 
 /**
@@ -29,16 +30,29 @@ public class ByteArrayZoutStream extends BaseZoutStream
 	private byte[] dataArr;
 	private int dataPos;
 
-	/** Standard Constructor */
-	public ByteArrayZoutStream(int initCap, boolean computeCheckSum) throws IOException
+	/**
+	 * Standard Constructor
+	 *
+	 * @param initCap
+	 *        The initial capacity of the backing byte array.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is written. A value of null implies no checksum.
+	 */
+	public ByteArrayZoutStream(int initCap, DigestType aDigestType) throws IOException
 	{
-		super(computeCheckSum, false);
+		super(aDigestType, false);
 
 		// Set up the stream vars
 		dataArr = new byte[initCap];
 		dataPos = 0;
 	}
 
+	/** Simplified Constructor */
+	public ByteArrayZoutStream(int initCap, boolean computeCheckSum) throws IOException
+	{
+		this(initCap, computeCheckSum == true ? DigestType.MD5 : null);
+	}
+
 	/** Simplified Constructor */
 	public ByteArrayZoutStream(int initCap) throws IOException
 	{
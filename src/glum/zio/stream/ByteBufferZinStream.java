@@ -0,0 +1,122 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import glum.digest.DigestType;
+import glum.zio.ZinStream;
+
+/**
+ * Implementation of {@link ZinStream} backed by a caller supplied {@link ByteBuffer} (heap or direct).
+ * <p>
+ * The content is read directly from the supplied buffer - no intermediate copy is made. The stream covers the content
+ * from the buffer's position to its limit and the stream's position is relative to the buffer's (initial) position.
+ * The supplied buffer's position is not affected until the stream is closed - at which point it will be advanced past
+ * the content that has been consumed.
+ *
+ * @author lopeznr1
+ */
+public class ByteBufferZinStream extends BaseZinStream
+{
+	// Stream vars
+	private ByteBuffer refBuffer;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aBuffer
+	 *        The buffer to be read.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
+	 */
+	public ByteBufferZinStream(ByteBuffer aBuffer, DigestType aDigestType) throws IOException
+	{
+		super(aBuffer.slice(), aDigestType);
+
+		refBuffer = aBuffer;
+	}
+
+	/** Simplified Constructor */
+	public ByteBufferZinStream(ByteBuffer aBuffer) throws IOException
+	{
+		this(aBuffer, null);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		// Bail if we have already been closed
+		if (workBuffer == null)
+			return;
+
+		// Advance the caller's buffer past the consumed content
+		var numBytes = workBuffer.position();
+		refBuffer.position(refBuffer.position() + numBytes);
+
+		super.close();
+	}
+
+	@Override
+	public long getAvailable() throws IOException
+	{
+		if (workBuffer == null)
+			return 0;
+
+		return workBuffer.remaining();
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return workBuffer.position();
+	}
+
+	@Override
+	public void seek(long aPos) throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		// Ensure the position is valid
+		if (aPos < 0 || aPos > workBuffer.limit())
+			throw new IOException("Invalid position: " + aPos + " Valid range: [0, " + workBuffer.limit() + "]");
+
+		// The checksum is no longer valid
+		disableCheckSum();
+
+		workBuffer.position((int) aPos);
+	}
+
+	@Override
+	protected void refreshWorkBuffer() throws IOException
+	{
+		// There will never be new fresh data for a ByteBufferZinStream
+		throw new EOFException("EOF reached on stream.");
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		refBuffer = null;
+	}
+
+}
@@ -0,0 +1,104 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import glum.digest.DigestType;
+import glum.zio.ZoutStream;
+
+/**
+ * Implementation of {@link ZoutStream} backed by a caller supplied {@link ByteBuffer} (heap or direct).
+ * <p>
+ * The content is written directly to the supplied buffer - no intermediate copy is made. Content is written starting
+ * at the buffer's position and may extend up to the buffer's limit. Any attempt to write beyond the limit will result
+ * in an {@link IOException}. The stream's position is relative to the buffer's (initial) position.
+ * <p>
+ * The supplied buffer's position is not affected until the stream is closed - at which point it will be advanced past
+ * the written content.
+ *
+ * @author lopeznr1
+ */
+public class ByteBufferZoutStream extends BaseZoutStream
+{
+	// Stream vars
+	private ByteBuffer refBuffer;
+	private boolean isClosing;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aBuffer
+	 *        The buffer where the content will be written.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is written. A value of null implies no checksum.
+	 */
+	public ByteBufferZoutStream(ByteBuffer aBuffer, DigestType aDigestType) throws IOException
+	{
+		super(aBuffer.slice(), aDigestType);
+
+		refBuffer = aBuffer;
+		isClosing = false;
+	}
+
+	/** Simplified Constructor */
+	public ByteBufferZoutStream(ByteBuffer aBuffer) throws IOException
+	{
+		this(aBuffer, null);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		// Bail if we have already been closed
+		if (workBuffer == null)
+			return;
+
+		// Advance the caller's buffer past the written content
+		var numBytes = workBuffer.position();
+		refBuffer.position(refBuffer.position() + numBytes);
+
+		isClosing = true;
+		super.close();
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return workBuffer.position();
+	}
+
+	@Override
+	protected void emptyWorkBuffer() throws IOException
+	{
+		// The content already resides in the caller's buffer
+		if (isClosing == true)
+			return;
+
+		// The workBuffer is the caller's buffer - it can not be emptied
+		throw new IOException("Insufficient space in buffer. Capacity: " + workBuffer.capacity());
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		refBuffer = null;
+	}
+
+}
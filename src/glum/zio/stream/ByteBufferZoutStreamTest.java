@@ -0,0 +1,146 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Test application that verifies a {@link ByteBufferZoutStream} can fill the caller's buffer exactly. Each writer must
+ * only require the bytes it actually writes - the caller's buffer can not be emptied.
+ * <p>
+ * A {@link RuntimeException} will be thrown on the first failed check.
+ *
+ * @author lopeznr1
+ */
+public class ByteBufferZoutStreamTest
+{
+	public static void main(String[] args) throws IOException
+	{
+		testExactFillVarInt();
+		testExactFillVarLong();
+		testExactFillStrings();
+		testExactFillDictStrings();
+		testOverflow();
+
+		System.out.println("All checks passed.");
+	}
+
+	private static void testExactFillVarInt() throws IOException
+	{
+		// Each value encodes to 1, 2, 3, 4, and 5 bytes respectively: 15 bytes total
+		var valArr = new int[] { 0, 64, 8192, 1048576, Integer.MIN_VALUE };
+		var tmpBuffer = ByteBuffer.allocate(15);
+
+		var tmpStream = new ByteBufferZoutStream(tmpBuffer);
+		for (int aVal : valArr)
+			tmpStream.writeVarInt(aVal);
+		tmpStream.close();
+		check(15, tmpBuffer.position());
+
+		tmpBuffer.flip();
+		var readStream = new ByteBufferZinStream(tmpBuffer);
+		for (int aVal : valArr)
+			check(aVal, readStream.readVarInt());
+		readStream.close();
+	}
+
+	private static void testExactFillVarLong() throws IOException
+	{
+		// Each value encodes to 1 and 10 bytes respectively: 11 bytes total
+		var tmpBuffer = ByteBuffer.allocate(11);
+
+		var tmpStream = new ByteBufferZoutStream(tmpBuffer);
+		tmpStream.writeVarLong(-1L);
+		tmpStream.writeVarLong(Long.MIN_VALUE);
+		tmpStream.close();
+		check(11, tmpBuffer.position());
+
+		tmpBuffer.flip();
+		var readStream = new ByteBufferZinStream(tmpBuffer);
+		check(-1L, readStream.readVarLong());
+		check(Long.MIN_VALUE, readStream.readVarLong());
+		readStream.close();
+	}
+
+	private static void testExactFillStrings() throws IOException
+	{
+		// writeString: 2 + 3 bytes, writeChars: 1 + 4 bytes, null writeChars: 1 byte
+		var tmpBuffer = ByteBuffer.allocate(11);
+
+		var tmpStream = new ByteBufferZoutStream(tmpBuffer);
+		tmpStream.writeString("abc");
+		tmpStream.writeChars("wxyz");
+		tmpStream.writeChars(null);
+		tmpStream.close();
+		check(11, tmpBuffer.position());
+
+		tmpBuffer.flip();
+		var readStream = new ByteBufferZinStream(tmpBuffer);
+		check("abc", readStream.readString());
+		check("wxyz", readStream.readChars());
+		check(null, readStream.readChars());
+		readStream.close();
+	}
+
+	private static void testExactFillDictStrings() throws IOException
+	{
+		// New string: 1 + 3 bytes, reference: 1 byte, null: 1 byte
+		var tmpBuffer = ByteBuffer.allocate(6);
+
+		var tmpStream = new ByteBufferZoutStream(tmpBuffer);
+		tmpStream.enableStringDictionary(16);
+		tmpStream.writeString("abc");
+		tmpStream.writeString("abc");
+		tmpStream.writeString(null);
+		tmpStream.close();
+		check(6, tmpBuffer.position());
+
+		tmpBuffer.flip();
+		var readStream = new ByteBufferZinStream(tmpBuffer);
+		readStream.enableStringDictionary(16);
+		check("abc", readStream.readString());
+		check("abc", readStream.readString());
+		check(null, readStream.readString());
+		readStream.close();
+	}
+
+	private static void testOverflow() throws IOException
+	{
+		var tmpBuffer = ByteBuffer.allocate(1);
+
+		var tmpStream = new ByteBufferZoutStream(tmpBuffer);
+		tmpStream.writeVarInt(0);
+		try
+		{
+			tmpStream.writeVarInt(0);
+			throw new RuntimeException("Overflow was not detected.");
+		}
+		catch (IOException aExp)
+		{
+			; // Expected
+		}
+	}
+
+	/**
+	 * Helper method that throws a {@link RuntimeException} if the specified values are not equal.
+	 */
+	private static void check(Object aExpVal, Object aActVal)
+	{
+		if (Objects.equals(aExpVal, aActVal) == false)
+			throw new RuntimeException("Check failed. Expected: " + aExpVal + " Actual: " + aActVal);
+	}
+
+}
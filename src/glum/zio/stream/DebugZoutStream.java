@@ -17,6 +17,7 @@ import java.io.IOException;
 
 import com.google.common.base.Charsets;
 
+import glum.digest.Digest;
 import glum.zio.ZoutStream;
 import glum.zio.util.ZioUtil;
 
@@ -65,6 +66,12 @@ public class DebugZoutStream implements ZoutStream
 		throw new IOException("Unsupported operation.");
 	}
 
+	@Override
+	public Digest getDigest() throws IOException
+	{
+		throw new IOException("Unsupported operation.");
+	}
+
 	@Override
 	public long getPosition() throws IOException
 	{
@@ -133,6 +140,22 @@ public class DebugZoutStream implements ZoutStream
 			throwBadByteWrittenException();
 	}
 
+	@Override
+	public void writeVarInt(int aInt) throws IOException
+	{
+		byteCnt += ZioUtil.getVarLongSize(aInt);
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
+	@Override
+	public void writeVarLong(long aLong) throws IOException
+	{
+		byteCnt += ZioUtil.getVarLongSize(aLong);
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
 	@Override
 	public void writeFloat(float aFloat) throws IOException
 	{
@@ -149,6 +172,56 @@ public class DebugZoutStream implements ZoutStream
 			throwBadByteWrittenException();
 	}
 
+	@Override
+	public void writeDoubles(double[] srcArr, int offset, int length) throws IOException
+	{
+		byteCnt += length * 8;
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
+	@Override
+	public void writeFloats(float[] srcArr, int offset, int length) throws IOException
+	{
+		byteCnt += length * 4;
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
+	@Override
+	public void writeInts(int[] srcArr, int offset, int length) throws IOException
+	{
+		byteCnt += length * 4;
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
+	@Override
+	public void writeLongs(long[] srcArr, int offset, int length) throws IOException
+	{
+		byteCnt += length * 8;
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
+	@Override
+	public void writeChars(CharSequence aCharSeq) throws IOException
+	{
+		// Null strings are handled in special fashion
+		if (aCharSeq == null)
+		{
+			byteCnt += 1;
+			if (byteCnt >= failByteCnt)
+				throwBadByteWrittenException();
+			return;
+		}
+
+		var size = ZioUtil.getUtf8Size(aCharSeq);
+		byteCnt += ZioUtil.getVarLongSize(size) + size;
+		if (byteCnt >= failByteCnt)
+			throwBadByteWrittenException();
+	}
+
 	@Override
 	public void writeString(String aStr) throws IOException
 	{
@@ -0,0 +1,189 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.google.common.base.Charsets;
+
+import glum.digest.DigestType;
+import glum.zio.ZinStream;
+
+/**
+ * Implementation of {@link ZinStream} that decompresses (inflate) the content read from the wrapped {@link ZinStream}.
+ * <p>
+ * The content is expected to have been written by {@link DeflateZoutStream}.
+ * <p>
+ * Note the checksum (if any) is computed on the uncompressed content.
+ *
+ * @author lopeznr1
+ */
+public class DeflateZinStream extends BaseZinStream
+{
+	// Stream vars
+	private ZinStream refStream;
+	private Inflater inflater;
+	private byte[] frameArr;
+	private boolean isEnd;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aStream
+	 *        The stream where the compressed content will be read from. The stream will be closed when this stream is
+	 *        closed.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
+	 */
+	public DeflateZinStream(ZinStream aStream, DigestType aDigestType) throws IOException
+	{
+		super(ByteBuffer.allocate(64 * 1024), aDigestType);
+
+		// Mark the contents in workBuffer as completely empty
+		workBuffer.limit(0);
+
+		// Set up the stream vars
+		refStream = aStream;
+		inflater = new Inflater();
+		frameArr = new byte[64 * 1024];
+		isEnd = false;
+
+		// Read in the header
+		refStream.readRawStringAndValidate(DeflateZoutStream.Magic);
+		refStream.readVersion(0);
+	}
+
+	/** Simplified Constructor */
+	public DeflateZinStream(ZinStream aStream) throws IOException
+	{
+		this(aStream, null);
+	}
+
+	/**
+	 * Utility method that returns true if the specified file starts with the {@link DeflateZoutStream} header.
+	 */
+	public static boolean isDeflateFile(File aFile) throws IOException
+	{
+		var magicArr = DeflateZoutStream.Magic.getBytes(Charsets.US_ASCII);
+		try (var tmpStream = new FileInputStream(aFile))
+		{
+			var readArr = tmpStream.readNBytes(magicArr.length);
+			return Arrays.equals(magicArr, readArr);
+		}
+	}
+
+	@Override
+	public long getAvailable() throws IOException
+	{
+		throw new IOException("Unsupported operation");
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return inflater.getBytesWritten() - workBuffer.remaining();
+	}
+
+	@Override
+	protected void refreshWorkBuffer() throws IOException
+	{
+		// Ensure the digest has been updated before refreshing the buffer
+		updateDigest();
+
+		// Move the remaining (stale) bytes to the start of workBuffer
+		var numStaleBytes = workBuffer.remaining();
+		workBuffer.compact();
+
+		// Mark the current digestPos to the start of the workBuffer
+		digestPos = 0;
+
+		// Fill the remaining workBuffer with decompressed data
+		try
+		{
+			while (workBuffer.remaining() > 0 && isEnd == false)
+			{
+				if (inflater.finished() == true)
+				{
+					readTerminator();
+					break;
+				}
+
+				if (inflater.needsInput() == true)
+					readFrame();
+
+				inflater.inflate(workBuffer);
+			}
+		}
+		catch (DataFormatException aExp)
+		{
+			throw new IOException("Corrupted compressed stream.", aExp);
+		}
+		finally
+		{
+			// Mark the buffer as fully prepared and ready for processing
+			workBuffer.flip();
+		}
+
+		if (workBuffer.remaining() == numStaleBytes)
+			throw new EOFException("EOF reached on stream.");
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		inflater.end();
+		refStream.close();
+
+		refStream = null;
+		inflater = null;
+		frameArr = null;
+	}
+
+	/**
+	 * Helper method that reads the next frame of compressed content from refStream and feeds it to the inflater.
+	 */
+	private void readFrame() throws IOException
+	{
+		var numBytes = refStream.readInt();
+		if (numBytes <= 0)
+			throw new IOException("Corrupted compressed stream. Premature end of frames.");
+
+		if (numBytes > frameArr.length)
+			frameArr = new byte[numBytes];
+
+		refStream.readFully(frameArr, 0, numBytes);
+		inflater.setInput(frameArr, 0, numBytes);
+	}
+
+	/**
+	 * Helper method that reads the terminating (empty) frame from refStream.
+	 */
+	private void readTerminator() throws IOException
+	{
+		var numBytes = refStream.readInt();
+		if (numBytes != 0)
+			throw new IOException("Corrupted compressed stream. Missing terminating frame.");
+
+		isEnd = true;
+	}
+
+}
@@ -0,0 +1,134 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+import glum.digest.DigestType;
+import glum.zio.ZoutStream;
+
+/**
+ * Implementation of {@link ZoutStream} that compresses (deflate) the content before it is sent to the wrapped
+ * {@link ZoutStream}.
+ * <p>
+ * The compressed content is preceded by the header {@link #Magic} and a version. The compressed data is stored as a
+ * sequence of length prefixed frames and is terminated by an empty frame. Use {@link DeflateZinStream} to read the
+ * content back in.
+ * <p>
+ * Note the checksum (if any) is computed on the uncompressed content.
+ *
+ * @author lopeznr1
+ */
+public class DeflateZoutStream extends BaseZoutStream
+{
+	/** Header used to identify a deflate compressed zio stream. */
+	public static final String Magic = "ZioDeflate";
+
+	// Stream vars
+	private ZoutStream refStream;
+	private Deflater deflater;
+	private byte[] frameArr;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aStream
+	 *        The stream where the compressed content will be written. The stream will be closed when this stream is
+	 *        closed.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is written. A value of null implies no checksum.
+	 * @param aLevel
+	 *        The compression level (0-9). See {@link Deflater}.
+	 */
+	public DeflateZoutStream(ZoutStream aStream, DigestType aDigestType, int aLevel) throws IOException
+	{
+		super(aDigestType, false);
+
+		// Set up the stream vars
+		refStream = aStream;
+		deflater = new Deflater(aLevel);
+		frameArr = new byte[64 * 1024];
+
+		// Write out the header
+		refStream.writeRawString(Magic);
+		refStream.writeVersion(0);
+	}
+
+	/** Simplified Constructor */
+	public DeflateZoutStream(ZoutStream aStream) throws IOException
+	{
+		this(aStream, null, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return deflater.getBytesRead() + workBuffer.position();
+	}
+
+	@Override
+	protected void emptyWorkBuffer() throws IOException
+	{
+		// Prepare the buffer for a dump of its contents from the start
+		workBuffer.flip();
+
+		// Compress the contents of workBuffer to the stream (refStream). Note a duplicate is handed to the deflater so
+		// that the deflater's view of the input is not affected when the workBuffer is cleared.
+		deflater.setInput(workBuffer.duplicate());
+		while (deflater.needsInput() == false)
+			writeFrame();
+
+		// Clear the workBuffer
+		clearWorkBuffer();
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		// Flush out any remaining compressed content
+		deflater.finish();
+		while (deflater.finished() == false)
+			writeFrame();
+
+		// Write out the terminating (empty) frame
+		refStream.writeInt(0);
+
+		deflater.end();
+		refStream.close();
+
+		refStream = null;
+		deflater = null;
+		frameArr = null;
+	}
+
+	/**
+	 * Helper method that writes the next frame of compressed content to refStream. Nothing will be written if the
+	 * deflater does not produce any output.
+	 */
+	private void writeFrame() throws IOException
+	{
+		var numBytes = deflater.deflate(frameArr);
+		if (numBytes == 0)
+			return;
+
+		refStream.writeInt(numBytes);
+		refStream.writeFully(frameArr, 0, numBytes);
+	}
+
+}
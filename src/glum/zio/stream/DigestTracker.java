@@ -0,0 +1,147 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import glum.digest.*;
+
+/**
+ * Package private class used to track the digest of a zio stream.
+ * <p>
+ * In addition to the digest of the entire stream, the digest of individual segments may be tracked. Segments are
+ * delimited either explicitly via {@link #markSegment()} or automatically every segmentSize bytes.
+ *
+ * @author lopeznr1
+ */
+class DigestTracker
+{
+	// Attributes
+	private final DigestType digestType;
+	private final MessageDigest fullDigest;
+
+	// State vars
+	private MessageDigest segDigest;
+	private long segSize;
+	private long segBegPos;
+	private long currPos;
+	private List<DigestSegment> segmentL;
+
+	/** Standard Constructor */
+	DigestTracker(DigestType aDigestType)
+	{
+		digestType = aDigestType;
+		fullDigest = DigestUtils.getDigest(aDigestType);
+
+		segDigest = null;
+		segSize = 0;
+		segBegPos = 0;
+		currPos = 0;
+		segmentL = new ArrayList<>();
+	}
+
+	/**
+	 * Enables tracking of segment digests. The first segment will start at the current position.
+	 *
+	 * @param aSegSize
+	 *        The number of bytes in each (automatic) segment. A value of 0 implies that segments will only be
+	 *        delimited via {@link #markSegment()}.
+	 */
+	void enableSegments(long aSegSize)
+	{
+		if (aSegSize < 0)
+			throw new IllegalArgumentException("Segment size must not be negative: " + aSegSize);
+
+		// Close out the current segment (if any)
+		if (segDigest != null)
+			markSegment();
+		else
+			segDigest = DigestUtils.getDigest(digestType);
+
+		segSize = aSegSize;
+		segBegPos = currPos;
+	}
+
+	/**
+	 * Returns the digest of all of the data that has been fed to this tracker. The state of the tracker is not
+	 * affected.
+	 */
+	Digest getDigest()
+	{
+		return new Digest(digestType, DigestUtils.peekDigest(fullDigest));
+	}
+
+	/**
+	 * Returns the list of segments that have been completed.
+	 */
+	List<DigestSegment> getSegmentList()
+	{
+		return ImmutableList.copyOf(segmentL);
+	}
+
+	/**
+	 * Completes the current segment. Nothing will be recorded if the current segment is empty or if segment tracking has
+	 * not been enabled.
+	 */
+	void markSegment()
+	{
+		// Bail if there is no current segment
+		if (segDigest == null || currPos == segBegPos)
+			return;
+
+		var tmpDigest = new Digest(digestType, segDigest.digest());
+		segmentL.add(new DigestSegment(segBegPos, currPos - segBegPos, tmpDigest));
+		segBegPos = currPos;
+	}
+
+	/**
+	 * Updates the digest with the remaining content of aBuffer. The position of aBuffer will be moved to its limit.
+	 */
+	void update(ByteBuffer aBuffer)
+	{
+		// Fast path: no segment tracking
+		if (segDigest == null)
+		{
+			currPos += aBuffer.remaining();
+			fullDigest.update(aBuffer);
+			return;
+		}
+
+		while (aBuffer.remaining() > 0)
+		{
+			// Determine the number of bytes that belong to the current segment
+			var numBytes = aBuffer.remaining();
+			if (segSize > 0)
+				numBytes = (int) Math.min(numBytes, segBegPos + segSize - currPos);
+
+			var tmpBuffer = aBuffer.duplicate();
+			tmpBuffer.limit(tmpBuffer.position() + numBytes);
+			segDigest.update(tmpBuffer.duplicate());
+			fullDigest.update(tmpBuffer);
+
+			aBuffer.position(tmpBuffer.position());
+			currPos += numBytes;
+
+			// Complete the segment if it is full
+			if (segSize > 0 && currPos - segBegPos == segSize)
+				markSegment();
+		}
+	}
+
+}
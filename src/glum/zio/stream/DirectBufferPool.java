@@ -0,0 +1,107 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool of direct {@link ByteBuffer}s that allows direct buffers to be reused across stream instances.
+ * <p>
+ * Allocation of direct buffers is relatively expensive and the memory is only reclaimed once the buffer is garbage
+ * collected. Buffers are pooled by (exact) capacity and at most maxPerSize buffers of any given capacity are retained.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author lopeznr1
+ */
+public class DirectBufferPool
+{
+	/** The (global) default pool. */
+	public static final DirectBufferPool Default = new DirectBufferPool(16);
+
+	// Attributes
+	private final int maxPerSize;
+
+	// State vars
+	private final Map<Integer, ArrayDeque<ByteBuffer>> poolM;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aMaxPerSize
+	 *        The max number of buffers (of any given capacity) that will be retained.
+	 */
+	public DirectBufferPool(int aMaxPerSize)
+	{
+		maxPerSize = aMaxPerSize;
+
+		poolM = new HashMap<>();
+	}
+
+	/**
+	 * Returns a (cleared) direct buffer with the specified capacity. A pooled buffer will be returned if available
+	 * otherwise a new buffer will be allocated.
+	 */
+	public synchronized ByteBuffer borrow(int aCapacity)
+	{
+		var tmpDeque = poolM.get(aCapacity);
+		if (tmpDeque == null || tmpDeque.isEmpty() == true)
+			return ByteBuffer.allocateDirect(aCapacity);
+
+		return tmpDeque.pop();
+	}
+
+	/**
+	 * Releases all of the pooled buffers.
+	 */
+	public synchronized void clear()
+	{
+		poolM.clear();
+	}
+
+	/**
+	 * Returns the number of buffers currently held in the pool.
+	 */
+	public synchronized int getNumPooled()
+	{
+		var retCnt = 0;
+		for (var aDeque : poolM.values())
+			retCnt += aDeque.size();
+
+		return retCnt;
+	}
+
+	/**
+	 * Returns the specified buffer to the pool. The caller must not utilize the buffer after it has been released.
+	 * Non-direct buffers are ignored.
+	 */
+	public synchronized void release(ByteBuffer aBuffer)
+	{
+		if (aBuffer.isDirect() == false || aBuffer.isReadOnly() == true)
+			return;
+
+		var tmpDeque = poolM.computeIfAbsent(aBuffer.capacity(), aKey -> new ArrayDeque<>());
+		if (tmpDeque.size() >= maxPerSize)
+			return;
+
+		aBuffer.clear();
+		aBuffer.order(ByteOrder.BIG_ENDIAN);
+		tmpDeque.push(aBuffer);
+	}
+
+}
@@ -16,6 +16,7 @@ package glum.zio.stream;
 import java.io.*;
 import java.nio.channels.FileChannel;
 
+import glum.digest.DigestType;
 import glum.zio.ZinStream;
 
 /**
@@ -29,22 +30,68 @@ public class FileZinStream extends BaseZinStream
 	private FileChannel fileCh;
 	private byte[] staleArr;
 
-	/** Standard Constructor */
-	public FileZinStream(File aFile, boolean aComputeCheckSum) throws IOException
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aFile
+	 *        The file to be read.
+	 * @param aOptions
+	 *        The options that define the checksum and the work buffer of this stream.
+	 */
+	public FileZinStream(File aFile, ZioStreamOptions aOptions) throws IOException
 	{
-		super(aComputeCheckSum, aFile.length());
+		super(aOptions, aFile.length());
 
 		// Set up the stream vars
 		fileCh = new FileInputStream(aFile).getChannel();
 		staleArr = new byte[256];
 	}
 
+	/** Simplified Constructor */
+	public FileZinStream(File aFile, DigestType aDigestType) throws IOException
+	{
+		this(aFile, ZioStreamOptions.Default.withDigestType(aDigestType));
+	}
+
+	/** Simplified Constructor */
+	public FileZinStream(File aFile, boolean aComputeCheckSum) throws IOException
+	{
+		this(aFile, aComputeCheckSum == true ? DigestType.MD5 : null);
+	}
+
 	/** Simplified Constructor */
 	public FileZinStream(File aFile) throws IOException
 	{
 		this(aFile, false);
 	}
 
+	/**
+	 * Utility method that opens the specified file for reading. If the file was written via a
+	 * {@link DeflateZoutStream} then the returned stream will transparently decompress the content.
+	 *
+	 * @param aFile
+	 *        The file to be read.
+	 * @param aDigestType
+	 *        The type of checksum to be computed (on the uncompressed content). A value of null implies no checksum.
+	 */
+	public static ZinStream open(File aFile, DigestType aDigestType) throws IOException
+	{
+		if (DeflateZinStream.isDeflateFile(aFile) == false)
+			return new FileZinStream(aFile, aDigestType);
+
+		// Ensure the (inner) file stream is released if the deflate stream can not be constructed
+		var tmpStream = new FileZinStream(aFile);
+		try
+		{
+			return new DeflateZinStream(tmpStream, aDigestType);
+		}
+		catch (IOException | RuntimeException aExp)
+		{
+			tmpStream.close();
+			throw aExp;
+		}
+	}
+
 	@Override
 	public long getAvailable() throws IOException
 	{
@@ -64,6 +111,54 @@ public class FileZinStream extends BaseZinStream
 		return fileCh.position() - workBuffer.remaining();
 	}
 
+	@Override
+	public void seek(long aPos) throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		// Ensure the position is valid
+		var fileSize = fileCh.size();
+		if (aPos < 0 || aPos > fileSize)
+			throw new IOException("Invalid position: " + aPos + " Valid range: [0, " + fileSize + "]");
+
+		// The checksum is no longer valid
+		disableCheckSum();
+
+		// If the position is within the buffered region then just reposition the workBuffer
+		var bufEndPos = fileCh.position();
+		var bufBegPos = bufEndPos - workBuffer.limit();
+		if (aPos >= bufBegPos && aPos <= bufEndPos)
+		{
+			workBuffer.position((int) (aPos - bufBegPos));
+			return;
+		}
+
+		// Reposition the channel and mark the contents in workBuffer as completely empty
+		fileCh.position(aPos);
+		workBuffer.clear();
+		workBuffer.limit(0);
+	}
+
+	@Override
+	public void skipBytes(int numBytes) throws IOException
+	{
+		// Skip past the buffered region via a seek so that the skipped content is never read. This is only possible if
+		// a checksum is not being computed.
+		if (getDigestType() == null && numBytes > workBuffer.remaining())
+		{
+			var tmpPos = getPosition() + numBytes;
+			if (tmpPos > fileCh.size())
+				throw new EOFException("EOF reached on stream.");
+
+			seek(tmpPos);
+			return;
+		}
+
+		super.skipBytes(numBytes);
+	}
+
 	@Override
 	protected void refreshWorkBuffer() throws IOException
 	{
@@ -84,14 +179,15 @@ public class FileZinStream extends BaseZinStream
 		var numReadBytes = fileCh.read(workBuffer);
 		if (numReadBytes == 0)
 			System.out.println("Failed to read any buffer bytes!!! Bytes formerly read: " + numReadBytes);
-		if (numReadBytes == -1)
-			throw new EOFException("EOF reached on stream.");
 
 		// Mark the buffer as fully prepared and ready for processing
 		workBuffer.flip();
 
 		// Mark the current digestPos to the start of the workBuffer
 		digestPos = 0;
+
+		if (numReadBytes == -1)
+			throw new EOFException("EOF reached on stream.");
 	}
 
 	@Override
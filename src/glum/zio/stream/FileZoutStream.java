@@ -16,6 +16,7 @@ package glum.zio.stream;
 import java.io.*;
 import java.nio.channels.FileChannel;
 
+import glum.digest.DigestType;
 import glum.zio.ZoutStream;
 
 /**
@@ -28,15 +29,35 @@ public class FileZoutStream extends BaseZoutStream
 	// Stream vars
 	private FileChannel fileCh;
 
-	/** Standard Constructor */
-	public FileZoutStream(File aFile, boolean aComputeCheckSum, boolean aIsDirect) throws IOException
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aFile
+	 *        The file to be written.
+	 * @param aOptions
+	 *        The options that define the checksum and the work buffer of this stream.
+	 */
+	public FileZoutStream(File aFile, ZioStreamOptions aOptions) throws IOException
 	{
-		super(aComputeCheckSum, aIsDirect);
+		super(aOptions);
 
 		// Set up the stream vars
 		fileCh = new FileOutputStream(aFile).getChannel();
 	}
 
+	/** Simplified Constructor */
+	public FileZoutStream(File aFile, DigestType aDigestType, boolean aIsDirect) throws IOException
+	{
+		this(aFile, ZioStreamOptions.Default.withDigestType(aDigestType).withBuffer(
+				aIsDirect == true ? ZioStreamOptions.BufferType.Direct : ZioStreamOptions.BufferType.Heap, 0));
+	}
+
+	/** Simplified Constructor */
+	public FileZoutStream(File aFile, boolean aComputeCheckSum, boolean aIsDirect) throws IOException
+	{
+		this(aFile, aComputeCheckSum == true ? DigestType.MD5 : null, aIsDirect);
+	}
+
 	/** Simplified Constructor */
 	public FileZoutStream(File aFile) throws IOException
 	{
@@ -0,0 +1,204 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import glum.digest.DigestType;
+import glum.zio.ZinStream;
+
+/**
+ * Implementation of {@link ZinStream} backed by a memory mapped file.
+ * <p>
+ * The file is mapped (read only) in windows of at most {@link #DefaultWindowSize} bytes. Data is served directly from
+ * the mapped window - there is no intermediate copy of the data. When the current window has been exhausted the next
+ * window is mapped starting at the first unread byte. This allows files larger than 2 GB to be read.
+ *
+ * @author lopeznr1
+ */
+public class MappedFileZinStream extends BaseZinStream
+{
+	/** Default size of a single mapped window: 256 MB */
+	public static final int DefaultWindowSize = 256 * 1024 * 1024;
+
+	// Attributes
+	private final long fileSize;
+	private final int windowSize;
+
+	// Stream vars
+	private FileChannel fileCh;
+	private long windowPos;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aFile
+	 *        The file to be read.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
+	 * @param aWindowSize
+	 *        The max number of bytes that will be mapped at any one time. Must be at least 64 KB.
+	 */
+	public MappedFileZinStream(File aFile, DigestType aDigestType, int aWindowSize) throws IOException
+	{
+		this(openWindow(aFile, aWindowSize), aDigestType);
+	}
+
+	/** Simplified Constructor */
+	public MappedFileZinStream(File aFile, boolean aComputeCheckSum, int aWindowSize) throws IOException
+	{
+		this(aFile, aComputeCheckSum == true ? DigestType.MD5 : null, aWindowSize);
+	}
+
+	/** Simplified Constructor */
+	public MappedFileZinStream(File aFile, boolean aComputeCheckSum) throws IOException
+	{
+		this(aFile, aComputeCheckSum, DefaultWindowSize);
+	}
+
+	/** Simplified Constructor */
+	public MappedFileZinStream(File aFile) throws IOException
+	{
+		this(aFile, false);
+	}
+
+	/** Private Constructor */
+	private MappedFileZinStream(OpenState aOpenState, DigestType aDigestType) throws IOException
+	{
+		super(aOpenState.window(), aDigestType);
+
+		fileSize = aOpenState.fileSize();
+		windowSize = aOpenState.windowSize();
+
+		// Set up the stream vars
+		fileCh = aOpenState.fileCh();
+		windowPos = 0;
+	}
+
+	@Override
+	public long getAvailable() throws IOException
+	{
+		if (workBuffer == null)
+			return 0;
+
+		return fileSize - (windowPos + workBuffer.position());
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return windowPos + workBuffer.position();
+	}
+
+	@Override
+	public void seek(long aPos) throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		// Ensure the position is valid
+		if (aPos < 0 || aPos > fileSize)
+			throw new IOException("Invalid position: " + aPos + " Valid range: [0, " + fileSize + "]");
+
+		// The checksum is no longer valid
+		disableCheckSum();
+
+		// If the position is within the current window then just reposition the workBuffer
+		if (aPos >= windowPos && aPos <= windowPos + workBuffer.limit())
+		{
+			workBuffer.position((int) (aPos - windowPos));
+			return;
+		}
+
+		// Map the window starting at the specified position
+		windowPos = aPos;
+		workBuffer = mapWindow(fileCh, windowPos, windowSize);
+	}
+
+	@Override
+	protected void refreshWorkBuffer() throws IOException
+	{
+		// Bail if the current window already extends to the end of the file
+		if (windowPos + workBuffer.limit() >= fileSize)
+			throw new EOFException("EOF reached on stream.");
+
+		// Ensure the digest has been updated before moving the window
+		updateDigest();
+
+		// Map the next window starting at the first unread byte. Any stale bytes are simply remapped.
+		windowPos += workBuffer.position();
+		workBuffer = mapWindow(fileCh, windowPos, windowSize);
+
+		// Mark the current digestPos to the start of the workBuffer
+		digestPos = 0;
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		fileCh.close();
+
+		fileCh = null;
+		windowPos = -1;
+	}
+
+	/**
+	 * Helper method that maps (read only) the region of the file starting at aPos. The mapped region will be no larger
+	 * than aWindowSize.
+	 */
+	private static ByteBuffer mapWindow(FileChannel aFileCh, long aPos, int aWindowSize) throws IOException
+	{
+		var mapSize = Math.min(aFileCh.size() - aPos, aWindowSize);
+		return aFileCh.map(MapMode.READ_ONLY, aPos, mapSize);
+	}
+
+	/**
+	 * Helper method that opens the specified file and maps the first window. The window size is validated before the
+	 * file is opened and the file will be closed if the first window can not be mapped.
+	 */
+	private static OpenState openWindow(File aFile, int aWindowSize) throws IOException
+	{
+		if (aWindowSize < 64 * 1024)
+			throw new IllegalArgumentException("Window size must be at least 64 KB. Requested: " + aWindowSize);
+
+		var tmpFileCh = FileChannel.open(aFile.toPath(), StandardOpenOption.READ);
+		try
+		{
+			var tmpWindow = mapWindow(tmpFileCh, 0, aWindowSize);
+			return new OpenState(tmpFileCh, tmpFileCh.size(), aWindowSize, tmpWindow);
+		}
+		catch (IOException | RuntimeException aExp)
+		{
+			tmpFileCh.close();
+			throw aExp;
+		}
+	}
+
+	/**
+	 * Record that holds the state of a newly opened file.
+	 */
+	private static record OpenState(FileChannel fileCh, long fileSize, int windowSize, ByteBuffer window)
+	{
+	}
+
+}
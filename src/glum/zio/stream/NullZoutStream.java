@@ -17,6 +17,7 @@ import java.io.IOException;
 
 import com.google.common.base.Charsets;
 
+import glum.digest.Digest;
 import glum.zio.ZoutStream;
 import glum.zio.util.ZioUtil;
 
@@ -57,6 +58,12 @@ public class NullZoutStream implements ZoutStream
 		throw new IOException("Unsupported operation.");
 	}
 
+	@Override
+	public Digest getDigest() throws IOException
+	{
+		throw new IOException("Unsupported operation.");
+	}
+
 	@Override
 	public long getPosition() throws IOException
 	{
@@ -113,6 +120,18 @@ public class NullZoutStream implements ZoutStream
 		byteCount += 2;
 	}
 
+	@Override
+	public void writeVarInt(int aInt) throws IOException
+	{
+		byteCount += ZioUtil.getVarLongSize(aInt);
+	}
+
+	@Override
+	public void writeVarLong(long aLong) throws IOException
+	{
+		byteCount += ZioUtil.getVarLongSize(aLong);
+	}
+
 	@Override
 	public void writeFloat(float aFloat) throws IOException
 	{
@@ -125,6 +144,44 @@ public class NullZoutStream implements ZoutStream
 		byteCount += 8;
 	}
 
+	@Override
+	public void writeDoubles(double[] srcArr, int offset, int length) throws IOException
+	{
+		byteCount += length * 8;
+	}
+
+	@Override
+	public void writeFloats(float[] srcArr, int offset, int length) throws IOException
+	{
+		byteCount += length * 4;
+	}
+
+	@Override
+	public void writeInts(int[] srcArr, int offset, int length) throws IOException
+	{
+		byteCount += length * 4;
+	}
+
+	@Override
+	public void writeLongs(long[] srcArr, int offset, int length) throws IOException
+	{
+		byteCount += length * 8;
+	}
+
+	@Override
+	public void writeChars(CharSequence aCharSeq) throws IOException
+	{
+		// Null strings are handled in special fashion
+		if (aCharSeq == null)
+		{
+			byteCount += 1;
+			return;
+		}
+
+		var size = ZioUtil.getUtf8Size(aCharSeq);
+		byteCount += ZioUtil.getVarLongSize(size) + size;
+	}
+
 	@Override
 	public void writeString(String aStr) throws IOException
 	{
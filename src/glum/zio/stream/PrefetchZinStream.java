@@ -0,0 +1,293 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import glum.digest.DigestType;
+import glum.zio.ZinStream;
+
+/**
+ * Implementation of {@link ZinStream} backed by a file where the file content is read ahead on a background thread.
+ * <p>
+ * The file is read in chunks (of a configurable size) into a set of (direct) buffers. While the caller consumes the
+ * current chunk, the background thread reads up to prefetchDepth chunks ahead of the caller. The amount of time the
+ * caller spent waiting on the background thread is available via {@link #getStallTime()}.
+ *
+ * @author lopeznr1
+ */
+public class PrefetchZinStream extends BaseZinStream
+{
+	/** Default chunk size: 512 KB */
+	public static final int DefaultChunkSize = 512 * 1024;
+
+	/** Default number of chunks to read ahead */
+	public static final int DefaultPrefetchDepth = 2;
+
+	// Constants
+	/** Space reserved at the start of each chunk buffer for bytes carried over from the prior chunk. */
+	private static final int StaleCap = 256;
+	/** Marker used to signal that the background thread is done (EOF or error). */
+	private static final ByteBuffer EndMarker = ByteBuffer.allocate(0);
+
+	// Attributes
+	private final long fileSize;
+
+	// Stream vars
+	private FileChannel fileCh;
+	private BlockingQueue<ByteBuffer> freeQ;
+	private BlockingQueue<ByteBuffer> fullQ;
+	private Thread prefetchThread;
+	private volatile Throwable prefetchExp;
+	private boolean isEof;
+	private long chunkEndPos;
+
+	// Stat vars
+	private long stallTimeNS;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aFile
+	 *        The file to be read.
+	 * @param aDigestType
+	 *        The type of checksum to be computed as the stream is read. A value of null implies no checksum.
+	 * @param aChunkSize
+	 *        The number of bytes read (from the file) per chunk.
+	 * @param aPrefetchDepth
+	 *        The max number of chunks that will be read ahead of the caller.
+	 */
+	public PrefetchZinStream(File aFile, DigestType aDigestType, int aChunkSize, int aPrefetchDepth)
+			throws IOException
+	{
+		super(allocateChunkBuffer(aChunkSize), aDigestType);
+
+		if (aPrefetchDepth < 1)
+			throw new IllegalArgumentException("Prefetch depth must be at least 1. Requested: " + aPrefetchDepth);
+
+		fileSize = aFile.length();
+
+		// Set up the buffer pool. Note the workBuffer is the first buffer in the pool.
+		freeQ = new ArrayBlockingQueue<>(aPrefetchDepth + 1);
+		fullQ = new ArrayBlockingQueue<>(aPrefetchDepth + 1);
+		for (int c1 = 0; c1 < aPrefetchDepth; c1++)
+			freeQ.add(allocateChunkBuffer(aChunkSize));
+		workBuffer.limit(0);
+
+		// Set up the stream vars
+		fileCh = new FileInputStream(aFile).getChannel();
+		prefetchExp = null;
+		isEof = false;
+		chunkEndPos = 0;
+
+		stallTimeNS = 0;
+
+		// Start the background (prefetch) thread
+		prefetchThread = new Thread(this::prefetchLoop, "PrefetchZinStream: " + aFile.getName());
+		prefetchThread.setDaemon(true);
+		prefetchThread.start();
+	}
+
+	/** Simplified Constructor */
+	public PrefetchZinStream(File aFile, boolean aComputeCheckSum) throws IOException
+	{
+		this(aFile, aComputeCheckSum == true ? DigestType.MD5 : null, DefaultChunkSize, DefaultPrefetchDepth);
+	}
+
+	/** Simplified Constructor */
+	public PrefetchZinStream(File aFile) throws IOException
+	{
+		this(aFile, false);
+	}
+
+	/**
+	 * Returns the length of time (in milliseconds) that the caller has spent waiting for data to be read from the file.
+	 */
+	public long getStallTime()
+	{
+		return stallTimeNS / 1000000;
+	}
+
+	@Override
+	public long getAvailable() throws IOException
+	{
+		if (workBuffer == null)
+			return 0;
+
+		return fileSize - (chunkEndPos - workBuffer.remaining());
+	}
+
+	@Override
+	public long getPosition() throws IOException
+	{
+		// There is no virtual position if the stream has been closed
+		if (workBuffer == null)
+			throw new IOException("Stream has been closed.");
+
+		return chunkEndPos - workBuffer.remaining();
+	}
+
+	@Override
+	protected void refreshWorkBuffer() throws IOException
+	{
+		// Bail if there is no more data
+		if (isEof == true)
+			throwEndOfData();
+
+		// Ensure the digest has been updated before refreshing the buffer
+		updateDigest();
+
+		// Retrieve the next chunk (waiting if necessary)
+		var nextBuffer = fullQ.poll();
+		if (nextBuffer == null)
+		{
+			var begTimeNS = System.nanoTime();
+			try
+			{
+				nextBuffer = fullQ.take();
+			}
+			catch (InterruptedException aExp)
+			{
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for data.");
+			}
+			finally
+			{
+				stallTimeNS += System.nanoTime() - begTimeNS;
+			}
+		}
+
+		// Bail if the background thread is done. Note the EndMarker is only posted once.
+		if (nextBuffer == EndMarker)
+		{
+			isEof = true;
+			throwEndOfData();
+		}
+
+		// Copy the remaining (stale) bytes from the workBuffer to the space reserved at the start of nextBuffer
+		var numStaleBytes = workBuffer.remaining();
+		if (numStaleBytes > StaleCap)
+			throw new IOException("Too many stale bytes: " + numStaleBytes + " Max: " + StaleCap);
+
+		var begPos = StaleCap - numStaleBytes;
+		nextBuffer.position(begPos);
+		nextBuffer.put(workBuffer);
+		nextBuffer.position(begPos);
+		chunkEndPos += nextBuffer.limit() - StaleCap;
+
+		// Recycle the old workBuffer
+		freeQ.add(workBuffer);
+		workBuffer = nextBuffer;
+
+		// Mark the current digestPos to the start of the unread data
+		digestPos = begPos;
+	}
+
+	@Override
+	protected void releaseStreamVars() throws IOException
+	{
+		// Stop the background thread
+		prefetchThread.interrupt();
+		try
+		{
+			prefetchThread.join();
+		}
+		catch (InterruptedException aExp)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		fileCh.close();
+
+		fileCh = null;
+		freeQ = null;
+		fullQ = null;
+		prefetchThread = null;
+	}
+
+	/**
+	 * Helper method that throws the appropriate exception once the background thread is done. The failure (if any)
+	 * that stopped the background thread is rethrown on every call.
+	 */
+	private void throwEndOfData() throws IOException
+	{
+		if (prefetchExp != null)
+			throw new IOException("Failed to read data from stream.", prefetchExp);
+
+		throw new EOFException("EOF reached on stream.");
+	}
+
+	/**
+	 * Helper method executed on the background thread. Chunks will be read from the file until EOF is reached, an
+	 * error occurs, or the stream is closed.
+	 */
+	private void prefetchLoop()
+	{
+		try
+		{
+			while (true)
+			{
+				// Retrieve a free buffer and fill it (past the reserved space) with data from the file
+				var tmpBuffer = freeQ.take();
+				tmpBuffer.clear();
+				tmpBuffer.position(StaleCap);
+
+				var isDone = false;
+				while (tmpBuffer.remaining() > 0 && isDone == false)
+					isDone = fileCh.read(tmpBuffer) == -1;
+
+				// Mark the buffer as fully prepared and ready for processing
+				tmpBuffer.flip();
+				tmpBuffer.position(StaleCap);
+				if (tmpBuffer.remaining() > 0)
+					fullQ.put(tmpBuffer);
+
+				if (isDone == true)
+					break;
+			}
+		}
+		catch (InterruptedException aExp)
+		{
+			; // The stream has been closed
+		}
+		catch (Throwable aExp)
+		{
+			// Record the failure unless the stream has been closed
+			if (aExp instanceof IOException == false || Thread.currentThread().isInterrupted() == false)
+				prefetchExp = aExp;
+		}
+		finally
+		{
+			// Let the consumer know that we are done. Note there is always room for the EndMarker since the consumer
+			// holds at least one of the (prefetchDepth + 1) buffers.
+			fullQ.offer(EndMarker);
+		}
+	}
+
+	/**
+	 * Helper method to allocate a single chunk buffer.
+	 */
+	private static ByteBuffer allocateChunkBuffer(int aChunkSize)
+	{
+		if (aChunkSize < 1024)
+			throw new IllegalArgumentException("Chunk size must be at least 1 KB. Requested: " + aChunkSize);
+
+		return ByteBuffer.allocateDirect(StaleCap + aChunkSize);
+	}
+
+}
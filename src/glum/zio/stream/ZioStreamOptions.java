@@ -0,0 +1,129 @@
+// Copyright (C) 2024 The Johns Hopkins University Applied Physics Laboratory LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package glum.zio.stream;
+
+import glum.digest.DigestType;
+
+/**
+ * Immutable object that defines the configuration of a (buffered) zio stream. The following is configurable:
+ * <ul>
+ * <li>The type of checksum to be computed.
+ * <li>The type (heap vs direct) and size of the work buffer.
+ * <li>The {@link DirectBufferPool} from which direct work buffers are borrowed.
+ * </ul>
+ * See {@link BaseZinStream} and {@link BaseZoutStream}.
+ *
+ * @author lopeznr1
+ */
+public class ZioStreamOptions
+{
+	/**
+	 * Enum that defines the type of work buffer to be utilized.
+	 */
+	public enum BufferType
+	{
+		/** The type and size of the buffer is determined by the stream (based on the stream size). */
+		Auto,
+
+		/** A heap (non-direct) buffer. */
+		Heap,
+
+		/** A direct buffer. This should typically be utilized only for physical I/O (disk, network). */
+		Direct,
+	}
+
+	/** Default options: no checksum, auto buffer, buffers are pooled via {@link DirectBufferPool#Default}. */
+	public static final ZioStreamOptions Default = new ZioStreamOptions(null, BufferType.Auto, 0,
+			DirectBufferPool.Default);
+
+	/** The minimum size of a work buffer. */
+	public static final int MinBufferSize = 1024;
+
+	// Attributes
+	private final DigestType digestType;
+	private final BufferType bufferType;
+	private final int bufferSize;
+	private final DirectBufferPool bufferPool;
+
+	/**
+	 * Standard Constructor
+	 *
+	 * @param aDigestType
+	 *        The type of checksum to be computed. A value of null implies no checksum.
+	 * @param aBufferType
+	 *        The type of work buffer to utilize.
+	 * @param aBufferSize
+	 *        The size of the work buffer. A value of 0 implies the stream's default size will be utilized. Otherwise the
+	 *        value must be at least {@link #MinBufferSize}.
+	 * @param aBufferPool
+	 *        The pool from which direct buffers are borrowed. A value of null implies direct buffers are not pooled.
+	 */
+	public ZioStreamOptions(DigestType aDigestType, BufferType aBufferType, int aBufferSize,
+			DirectBufferPool aBufferPool)
+	{
+		if (aBufferSize != 0 && aBufferSize < MinBufferSize)
+			throw new IllegalArgumentException("Buffer size must be at least " + MinBufferSize + ". Requested: "
+					+ aBufferSize);
+
+		digestType = aDigestType;
+		bufferType = aBufferType;
+		bufferSize = aBufferSize;
+		bufferPool = aBufferPool;
+	}
+
+	public DigestType getDigestType()
+	{
+		return digestType;
+	}
+
+	public BufferType getBufferType()
+	{
+		return bufferType;
+	}
+
+	public int getBufferSize()
+	{
+		return bufferSize;
+	}
+
+	public DirectBufferPool getBufferPool()
+	{
+		return bufferPool;
+	}
+
+	/**
+	 * Returns a copy of this object with the specified buffer type and size.
+	 */
+	public ZioStreamOptions withBuffer(BufferType aBufferType, int aBufferSize)
+	{
+		return new ZioStreamOptions(digestType, aBufferType, aBufferSize, bufferPool);
+	}
+
+	/**
+	 * Returns a copy of this object with the specified buffer pool.
+	 */
+	public ZioStreamOptions withBufferPool(DirectBufferPool aBufferPool)
+	{
+		return new ZioStreamOptions(digestType, bufferType, bufferSize, aBufferPool);
+	}
+
+	/**
+	 * Returns a copy of this object with the specified digest type.
+	 */
+	public ZioStreamOptions withDigestType(DigestType aDigestType)
+	{
+		return new ZioStreamOptions(aDigestType, bufferType, bufferSize, bufferPool);
+	}
+
+}
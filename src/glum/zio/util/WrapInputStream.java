@@ -87,14 +87,15 @@ class WrapInputStream extends BaseZinStream
 		numReadBytes = refCh.read(workBuffer);
 		if (numReadBytes == 0)
 			System.out.println("Failed to read any buffer bytes!!! Bytes formerly read: " + numReadBytes);
-		if (numReadBytes == -1)
-			throw new EOFException("EOF reached on stream.");
 
 		// Mark the buffer as fully prepared and ready for processing
 		workBuffer.flip();
 
 		// Mark the current digestPos to the start of the workBuffer
 		digestPos = 0;
+
+		if (numReadBytes == -1)
+			throw new EOFException("EOF reached on stream.");
 	}
 
 	@Override
@@ -14,9 +14,10 @@
 package glum.zio.util;
 
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import glum.zio.*;
 
@@ -33,41 +34,24 @@ public class ZioRawUtil
 	 * <li>The objects are assumed to be of the same type.
 	 * <li>The class must define a Constructor that takes one argument - a {@link ZinStream}.
 	 * </ul>
+	 * Alternatively a {@link ZioSpawner} may be registered for the class via {@link ZioRegistry#getDefault()}.
 	 * <p>
 	 * Format: &lt;numItems> (&lt;ZioRaw>)&ast;
 	 */
 	public static <G1> ArrayList<G1> readList(ZinStream aStream, Class<G1> aClass) throws IOException
 	{
-		// Locate an appropriate Constructor
-		Constructor<G1> tmpConstructor = null;
-		try
-		{
-			tmpConstructor = aClass.getConstructor(ZinStream.class);
-		}
-		catch (NoSuchMethodException | SecurityException aExp)
-		{
-			throw new IOException("Failed to locate a proper constructor. Constuctor requires " //
-					+ "a single argument - ZioStream", aExp);
-		}
+		// Locate the appropriate spawner
+		ZioSpawner<G1> tmpSpawner = ZioRegistry.getDefault().getSpawner(aClass);
 
 		// Read the item count
 		int numItems = aStream.readInt();
+		if (numItems < 0)
+			throw new IOException("Invalid item count: " + numItems);
 
-		// Read the actual objects
-		ArrayList<G1> retItemL = new ArrayList<G1>();
+		// Read the actual objects. Note the initial capacity is capped as the count may be corrupt.
+		ArrayList<G1> retItemL = new ArrayList<G1>(Math.min(numItems, 1024));
 		for (int c1 = 0; c1 < numItems; c1++)
-		{
-			// Serialize the class
-			try
-			{
-				G1 aItem = tmpConstructor.newInstance(aStream);
-				retItemL.add(aItem);
-			}
-			catch (Exception aException)
-			{
-				throw new IOException("Failed to instantiate: " + aClass, aException);
-			}
-		}
+			retItemL.add(tmpSpawner.readInstance(aStream));
 
 		return retItemL;
 	}
@@ -108,7 +92,7 @@ public class ZioRawUtil
 	/**
 	 * Utility method to read a list of {@link ZioRaw} items.
 	 * <p>
-	 * Format: <numItems> (&lt;ZioRaw>)&ast;
+	 * Format: &lt;numItems> (&lt;ZioRaw>)&ast;
 	 */
 	public static <G1> ArrayList<G1> readRawList(ZinStream aStream, ZioSpawner<G1> aSpawner) throws IOException
 	{
@@ -118,9 +102,11 @@ public class ZioRawUtil
 
 		// Read the item count
 		numItems = aStream.readInt();
+		if (numItems < 0)
+			throw new IOException("Invalid item count: " + numItems);
 
-		// Read the actual objects
-		retItemL = new ArrayList<>(numItems + 1);
+		// Read the actual objects. Note the initial capacity is capped as the count may be corrupt.
+		retItemL = new ArrayList<>(Math.min(numItems, 1024));
 		for (int c1 = 0; c1 < numItems; c1++)
 		{
 			// Serialize the object
@@ -138,10 +124,70 @@ public class ZioRawUtil
 		return retItemL;
 	}
 
+	/**
+	 * Utility method that returns a lazy {@link Iterator} over a list of {@link ZioRaw} items. The item count is read
+	 * immediately while each item is only read (from aStream) as the iterator is advanced. Thus the entire list is never
+	 * held in memory.
+	 * <p>
+	 * The stream must not be utilized for anything else until the iterator has been exhausted. Any {@link IOException}
+	 * encountered while advancing the iterator will be thrown as an {@link UncheckedIOException}.
+	 * <p>
+	 * Format: &lt;numItems> (&lt;ZioRaw>)&ast;
+	 */
+	public static <G1> Iterator<G1> readRawIterator(ZinStream aStream, ZioSpawner<G1> aSpawner) throws IOException
+	{
+		// Read the item count
+		int numItems = aStream.readInt();
+		if (numItems < 0)
+			throw new IOException("Invalid item count: " + numItems);
+
+		return new SpawnerIterator<>(aStream, aSpawner, numItems);
+	}
+
+	/**
+	 * Utility method that returns a lazy (sequential) {@link Stream} over a list of {@link ZioRaw} items. See
+	 * {@link #readRawIterator(ZinStream, ZioSpawner)}.
+	 */
+	public static <G1> Stream<G1> readRawStream(ZinStream aStream, ZioSpawner<G1> aSpawner) throws IOException
+	{
+		var tmpIterator = (SpawnerIterator<G1>) readRawIterator(aStream, aSpawner);
+		var tmpSpliterator = Spliterators.spliterator(tmpIterator, tmpIterator.numItems, Spliterator.ORDERED);
+		return StreamSupport.stream(tmpSpliterator, false);
+	}
+
+	/**
+	 * Utility method to write out a list of {@link ZioRaw} items provided by an {@link Iterator}. This allows the items
+	 * to be generated on the fly rather than held in memory.
+	 * <p>
+	 * Format: &lt;numItems> (&lt;ZioRaw>)&ast;
+	 *
+	 * @param aNumItems
+	 *        The number of items that will be provided by the iterator. An {@link IOException} will be thrown if the
+	 *        iterator does not provide exactly this number of items.
+	 */
+	public static <G1> void writeRawList(ZoutStream aStream, ZioSpawner<G1> aSpawner, Iterator<? extends G1> aItemIt,
+			int aNumItems) throws IOException
+	{
+		// Write the item count
+		aStream.writeInt(aNumItems);
+
+		// Write the actual objects
+		for (int c1 = 0; c1 < aNumItems; c1++)
+		{
+			if (aItemIt.hasNext() == false)
+				throw new IOException("Iterator provided fewer items than specified: " + c1 + " Expected: " + aNumItems);
+
+			aSpawner.writeInstance(aStream, aItemIt.next());
+		}
+
+		if (aItemIt.hasNext() == true)
+			throw new IOException("Iterator provided more items than specified: " + aNumItems);
+	}
+
 	/**
 	 * Utility method to write out a list of {@link ZioRaw} items.
 	 * <p>
-	 * Format: <numItems> (&lt;ZioRaw>)&ast;
+	 * Format: &lt;numItems> (&lt;ZioRaw>)&ast;
 	 */
 	public static <G1> void writeRawList(ZoutStream aStream, ZioSpawner<G1> aSpawner, Collection<G1> aItemC)
 			throws IOException
@@ -154,4 +200,52 @@ public class ZioRawUtil
 			aSpawner.writeInstance(aStream, aItem);
 	}
 
+	/**
+	 * Private {@link Iterator} that lazily reads items (via a {@link ZioSpawner}) from a {@link ZinStream}.
+	 */
+	private static class SpawnerIterator<G1> implements Iterator<G1>
+	{
+		// Attributes
+		private final ZinStream refStream;
+		private final ZioSpawner<G1> refSpawner;
+		private final int numItems;
+
+		// State vars
+		private int currIdx;
+
+		/** Standard Constructor */
+		public SpawnerIterator(ZinStream aStream, ZioSpawner<G1> aSpawner, int aNumItems)
+		{
+			refStream = aStream;
+			refSpawner = aSpawner;
+			numItems = aNumItems;
+
+			currIdx = 0;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return currIdx < numItems;
+		}
+
+		@Override
+		public G1 next()
+		{
+			if (currIdx >= numItems)
+				throw new NoSuchElementException();
+
+			try
+			{
+				var retItem = refSpawner.readInstance(refStream);
+				currIdx++;
+				return retItem;
+			}
+			catch (IOException aExp)
+			{
+				throw new UncheckedIOException(aExp);
+			}
+		}
+	}
+
 }
@@ -17,12 +17,12 @@ import java.awt.*;
 import java.io.IOException;
 import java.time.*;
 
+import glum.digest.Digest;
 import glum.task.Task;
 import glum.unit.TimeCountUnit;
 import glum.zio.ZinStream;
 import glum.zio.ZoutStream;
-import glum.zio.stream.FileZinStream;
-import glum.zio.stream.FileZoutStream;
+import glum.zio.stream.*;
 
 /**
  * Collection of utility methods for working with zio streams ({@link ZinStream} and {@link ZoutStream}).
@@ -34,11 +34,10 @@ public class ZioUtil
 	/**
 	 * Utility method to print the various stats gathered while reading to the specified task.
 	 */
-	public static void printResults(Task aTask, FileZinStream aStream, Object aSource) throws IOException
+	public static void printResults(Task aTask, BaseZinStream aStream, Object aSource) throws IOException
 	{
 		TimeCountUnit aUnit;
 		long runTime;
-		String checksum;
 		String message;
 
 		// Ensure we have a valid task
@@ -46,20 +45,19 @@ public class ZioUtil
 			return;
 
 		aUnit = new TimeCountUnit(3);
-		checksum = aStream.getCheckSum();
 		runTime = aStream.getRunTime();
-		message = "[Read] MD5: " + checksum + "   Source: " + aSource + "   Time: " + aUnit.getString(runTime);
+		message = "[Read] " + getDigestDescr(aStream.getDigest()) + "   Source: " + aSource + "   Time: "
+				+ aUnit.getString(runTime);
 		aTask.logRegln(message);
 	}
 
 	/**
 	 * Utility method to print the various stats gathered while writing to the specified task.
 	 */
-	public static void printResults(Task aTask, FileZoutStream aStream, Object aSource) throws IOException
+	public static void printResults(Task aTask, BaseZoutStream aStream, Object aSource) throws IOException
 	{
 		TimeCountUnit aUnit;
 		long runTime;
-		String checksum;
 		String message;
 
 		// Ensure we have a valid task
@@ -67,12 +65,43 @@ public class ZioUtil
 			return;
 
 		aUnit = new TimeCountUnit(3);
-		checksum = aStream.getCheckSum();
 		runTime = aStream.getRunTime();
-		message = "[Read] MD5: " + checksum + "   Source: " + aSource + "   Time: " + aUnit.getString(runTime);
+		message = "[Write] " + getDigestDescr(aStream.getDigest()) + "   Source: " + aSource + "   Time: "
+				+ aUnit.getString(runTime);
 		aTask.logRegln(message);
 	}
 
+	/**
+	 * Utility method to print the various stats gathered while reading to the specified task.
+	 * <p>
+	 * This method is retained for binary compatibility. See {@link #printResults(Task, BaseZinStream, Object)}.
+	 */
+	public static void printResults(Task aTask, FileZinStream aStream, Object aSource) throws IOException
+	{
+		printResults(aTask, (BaseZinStream) aStream, aSource);
+	}
+
+	/**
+	 * Utility method to print the various stats gathered while writing to the specified task.
+	 * <p>
+	 * This method is retained for binary compatibility. See {@link #printResults(Task, BaseZoutStream, Object)}.
+	 */
+	public static void printResults(Task aTask, FileZoutStream aStream, Object aSource) throws IOException
+	{
+		printResults(aTask, (BaseZoutStream) aStream, aSource);
+	}
+
+	/**
+	 * Helper method that returns a description of the specified digest (which may be null).
+	 */
+	private static String getDigestDescr(Digest aDigest)
+	{
+		if (aDigest == null)
+			return "Digest: ---";
+
+		return aDigest.getType() + ": " + aDigest.getValueAsString();
+	}
+
 	/**
 	 * Utility method to read a compact int. A compact int will take anywhere from 1 byte to 5 bytes of storage. This
 	 * method is the inverse of {@link ZioUtil#writeCompactInt}
@@ -108,6 +137,53 @@ public class ZioUtil
 			aStream.writeInt(aValue);
 	}
 
+	/**
+	 * Utility method that returns the number of bytes needed to store the specified value as a variable length value.
+	 * See {@link ZoutStream#writeVarLong}.
+	 * <p>
+	 * Note that an int will have the same size as the equivalent long.
+	 */
+	public static int getVarLongSize(long aValue)
+	{
+		// Zigzag encode the value
+		var rawVal = (aValue << 1) ^ (aValue >> 63);
+
+		// Each byte stores 7 bits of the value
+		var numBits = 64 - Long.numberOfLeadingZeros(rawVal | 1);
+		return (numBits + 6) / 7;
+	}
+
+	/**
+	 * Utility method that returns the number of bytes needed to store the specified characters as UTF-8. Unpaired
+	 * surrogates are counted as 1 byte - they will be replaced with '?' when encoded.
+	 */
+	public static long getUtf8Size(CharSequence aCharSeq)
+	{
+		long retSize = 0;
+
+		int numChars = aCharSeq.length();
+		for (int c1 = 0; c1 < numChars; c1++)
+		{
+			var tmpChar = aCharSeq.charAt(c1);
+			if (tmpChar < 0x80)
+				retSize += 1;
+			else if (tmpChar < 0x800)
+				retSize += 2;
+			else if (Character.isSurrogate(tmpChar) == false)
+				retSize += 3;
+			else if (Character.isHighSurrogate(tmpChar) == true && c1 + 1 < numChars
+					&& Character.isLowSurrogate(aCharSeq.charAt(c1 + 1)) == true)
+			{
+				retSize += 4;
+				c1++;
+			}
+			else
+				retSize += 1;
+		}
+
+		return retSize;
+	}
+
 	/**
 	 * Utility method to read a {@link Dimension} from aStream. This method is the inverse of
 	 * {@link ZioUtil#writeDimension}